@@ -0,0 +1,59 @@
+package com.example.loan.domain;
+
+import org.openjdk.jmh.annotations.*;
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 잔고 원장 합산 경로: 기존 BigDecimal 연산 vs Money(long) 연산
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1000"})
+    private int ledgerCount;
+
+    private BigDecimal bigDecimalBalance;
+    private BigDecimal[] bigDecimalAmounts;
+    private Money moneyBalance;
+    private Money[] moneyAmounts;
+
+    @Setup
+    public void setUp() {
+        bigDecimalBalance = BigDecimal.valueOf(5000000000L, Money.SCALE);
+        moneyBalance = Money.of(bigDecimalBalance);
+
+        bigDecimalAmounts = new BigDecimal[ledgerCount];
+        moneyAmounts = new Money[ledgerCount];
+        for (int i = 0; i < ledgerCount; i++) {
+            long minorUnits = ThreadLocalRandom.current().nextLong(1, 10000000L);
+            bigDecimalAmounts[i] = BigDecimal.valueOf(minorUnits, Money.SCALE);
+            moneyAmounts[i] = Money.ofMinor(minorUnits);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal balance = bigDecimalBalance;
+        for (int i = 0; i < ledgerCount; i++) {
+            // 상환 차감 후 롤백 (기존 repaymentUpdate REMOVE / ADD)
+            balance = balance.subtract(bigDecimalAmounts[i]);
+            balance = balance.add(bigDecimalAmounts[i]);
+        }
+        return balance;
+    }
+
+    @Benchmark
+    public Money money() {
+        Money balance = moneyBalance;
+        for (int i = 0; i < ledgerCount; i++) {
+            balance = balance.subtract(moneyAmounts[i]);
+            balance = balance.add(moneyAmounts[i]);
+        }
+        return balance;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.loan.aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 같은 메서드 + 같은 인자로 동시에 들어온 호출은 먼저 들어온 호출 한 번의 결과를 공유
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+}
@@ -0,0 +1,106 @@
+package com.example.loan.config;
+
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Terms;
+import com.example.loan.service.ApplicationIdRegistry;
+import com.example.loan.service.TermsCatalog;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.annotation.Configuration;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+// 엔티티 변경을 메모리에 둔 신청 ID registry / 약관 카탈로그에 반영.
+// 도메인이 서비스에 의존하지 않도록 엔티티 리스너 대신 Hibernate 커밋 이후 이벤트로 등록
+@Configuration
+@RequiredArgsConstructor
+public class EntityEventConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationIdRegistry applicationIdRegistry;
+    private final TermsCatalog termsCatalog;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        CommitListener listener = new CommitListener(applicationIdRegistry, termsCatalog);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    // 커밋된 변경만 전달되므로 롤백된 생성/삭제는 반영되지 않음. JPQL 일괄 update 는 이벤트가 없음
+    @RequiredArgsConstructor
+    static class CommitListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+            PostCommitDeleteEventListener {
+
+        private final transient ApplicationIdRegistry applicationIdRegistry;
+        private final transient TermsCatalog termsCatalog;
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            if (event.getEntity() instanceof Application application) {
+                applicationIdRegistry.add(application.getApplicationId());
+            } else if (event.getEntity() instanceof Terms) {
+                termsCatalog.invalidate();
+            }
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            if (event.getEntity() instanceof Application application) {
+                if (Boolean.TRUE.equals(application.getIsDeleted())) {
+                    applicationIdRegistry.remove(application.getApplicationId());
+                }
+            } else if (event.getEntity() instanceof Terms) {
+                termsCatalog.invalidate();
+            }
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            if (event.getEntity() instanceof Application application) {
+                applicationIdRegistry.remove(application.getApplicationId());
+            } else if (event.getEntity() instanceof Terms) {
+                termsCatalog.invalidate();
+            }
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            Class<?> entityClass = persister.getMappedClass();
+            return entityClass == Application.class || entityClass == Terms.class;
+        }
+
+        // Hibernate 5.6 은 이전 이름의 메서드가 아직 추상 메서드라 구현은 필요
+        @Override
+        @Deprecated
+        public boolean requiresPostCommitHanding(EntityPersister persister) {
+            return requiresPostCommitHandling(persister);
+        }
+    }
+}
@@ -2,16 +2,25 @@ package com.example.loan.controller;
 
 import com.example.loan.dto.ApplicationDTO;
 import com.example.loan.dto.FileDTO;
+import com.example.loan.dto.PageDTO;
 import com.example.loan.dto.ResponseDTO;
+import com.example.loan.dto.ScheduleDTO;
+import com.example.loan.dto.SnapshotDTO;
+import com.example.loan.dto.UploadDTO;
 import com.example.loan.service.ApplicationService;
+import com.example.loan.service.ChunkedUploadService;
 import com.example.loan.service.FileStorageService;
+import com.example.loan.service.ScheduleService;
+import com.example.loan.service.SnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.MvcUriComponentsBuilder;
+import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,12 +32,22 @@ public class ApplicationController extends AbstractController{
 
     private final ApplicationService applicationService;
     private final FileStorageService fileStorageService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final ScheduleService scheduleService;
+    private final SnapshotService snapshotService;
 
     @PostMapping
     public ResponseDTO<ApplicationDTO.Response> create(@RequestBody ApplicationDTO.Request request){
         return ok(applicationService.create(request));
     }
 
+    @GetMapping
+    public ResponseDTO<PageDTO<ApplicationDTO.Summary>> search(ApplicationDTO.SearchCondition condition,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(defaultValue = "20") int size){
+        return ok(applicationService.search(condition, cursor, size));
+    }
+
     @GetMapping("/{applicationId}")
     public ResponseDTO<ApplicationDTO.Response> get(@PathVariable Long applicationId){
         return ok(applicationService.get(applicationId));
@@ -50,12 +69,39 @@ public class ApplicationController extends AbstractController{
         return ok(applicationService.acceptTerms(applicationId, request));
     }
 
+    @GetMapping("/{applicationId}/terms/accepted")
+    public ResponseDTO<Boolean> hasAcceptedAllTerms(@PathVariable Long applicationId){
+        return ok(applicationService.hasAcceptedAllTerms(applicationId));
+    }
+
     @PostMapping(value = "/{applicationId}/files")
     public ResponseDTO<Void> upload(@PathVariable Long applicationId, MultipartFile file) throws IllegalStateException, IOException {
         fileStorageService.save(applicationId, file);
         return ok();
     }
 
+    // 대용량 서류는 chunk 단위 업로드 (multipart 를 거치지 않고 요청 본문을 바로 파일에 씀)
+    @PostMapping("/{applicationId}/files/uploads")
+    public ResponseDTO<UploadDTO.Response> initUpload(@PathVariable Long applicationId, @RequestBody UploadDTO.Request request){
+        return ok(chunkedUploadService.init(applicationId, request));
+    }
+
+    @PutMapping(value = "/{applicationId}/files/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseDTO<UploadDTO.Response> appendUpload(@PathVariable Long applicationId, @PathVariable String uploadId,
+                                                        @RequestParam long offset, HttpServletRequest request) throws IOException {
+        return ok(chunkedUploadService.append(applicationId, uploadId, offset, request.getInputStream()));
+    }
+
+    @GetMapping("/{applicationId}/files/uploads/{uploadId}")
+    public ResponseDTO<UploadDTO.Response> getUpload(@PathVariable Long applicationId, @PathVariable String uploadId){
+        return ok(chunkedUploadService.get(applicationId, uploadId));
+    }
+
+    @PostMapping("/{applicationId}/files/uploads/{uploadId}/complete")
+    public ResponseDTO<UploadDTO.Response> completeUpload(@PathVariable Long applicationId, @PathVariable String uploadId){
+        return ok(chunkedUploadService.complete(applicationId, uploadId));
+    }
+
     @GetMapping("/{applicationId}/files")
     public ResponseEntity<Resource> download(@PathVariable Long applicationId, @RequestParam(value="filename") String filename) throws IllegalStateException, IOException {
         Resource file = fileStorageService.load(applicationId, filename);
@@ -85,4 +131,14 @@ public class ApplicationController extends AbstractController{
     public ResponseDTO<ApplicationDTO.Response> contract(@PathVariable Long applicationId){
         return ok(applicationService.contract(applicationId));
     }
+
+    @GetMapping("/{applicationId}/snapshot")
+    public ResponseDTO<SnapshotDTO.Response> getSnapshot(@PathVariable Long applicationId, @RequestParam(defaultValue = "10") int repayments){
+        return ok(snapshotService.get(applicationId, repayments));
+    }
+
+    @GetMapping("/{applicationId}/schedules")
+    public ResponseDTO<ScheduleDTO.Response> getSchedule(@PathVariable Long applicationId){
+        return ok(scheduleService.get(applicationId));
+    }
 }
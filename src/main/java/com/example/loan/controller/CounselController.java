@@ -5,6 +5,7 @@ import com.example.loan.dto.ResponseDTO;
 import com.example.loan.service.CounselService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
@@ -18,6 +19,12 @@ public class CounselController extends AbstractController {
         return ok(counselService.create(request));
     }
 
+    @GetMapping
+    public ResponseDTO<List<CounselDTO.Response>> search(@RequestParam String query,
+                                                         @RequestParam(defaultValue = "20") int size){
+        return ok(counselService.search(query, size));
+    }
+
     @GetMapping("/{counselId}")
     public ResponseDTO<CounselDTO.Response> get(@PathVariable Long counselId){
         return ok(counselService.get(counselId));
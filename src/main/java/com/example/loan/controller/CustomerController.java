@@ -0,0 +1,21 @@
+package com.example.loan.controller;
+
+import com.example.loan.dto.CustomerDTO;
+import com.example.loan.dto.ResponseDTO;
+import com.example.loan.service.CustomerIdentityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/customers")
+public class CustomerController extends AbstractController {
+
+    private final CustomerIdentityService customerIdentityService;
+
+    @GetMapping("/history")
+    public ResponseDTO<CustomerDTO.History> getHistory(@RequestParam(required = false) String cellPhone,
+                                                       @RequestParam(required = false) String email){
+        return ok(customerIdentityService.getHistory(cellPhone, email));
+    }
+}
@@ -1,12 +1,29 @@
 package com.example.loan.controller;
 
+import com.example.loan.dto.AccrualDTO;
 import com.example.loan.dto.EntryDTO;
+import com.example.loan.dto.JudgmentDTO;
+import com.example.loan.dto.PageDTO;
 import com.example.loan.dto.RepaymentDTO;
 import com.example.loan.dto.ResponseDTO;
+import com.example.loan.service.AccrualService;
+import com.example.loan.service.AutoJudgmentService;
 import com.example.loan.service.EntryService;
+import com.example.loan.service.ExportService;
+import com.example.loan.service.JudgmentRuleEngine;
 import com.example.loan.service.RepaymentService;
+import com.example.loan.service.TermsAcceptanceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -16,6 +33,15 @@ public class InternalController extends AbstractController{
 
     private final EntryService entryService;
     private final RepaymentService repaymentService;
+    private final AccrualService accrualService;
+    private final ExportService exportService;
+    private final TermsAcceptanceService termsAcceptanceService;
+    private final AutoJudgmentService autoJudgmentService;
+    private final JudgmentRuleEngine judgmentRuleEngine;
+
+    // export 에만 적용하는 비동기 timeout. 전역 spring.mvc.async.request-timeout 은 기본값 유지
+    @Value("${loan.export.timeout:600000}")
+    private long exportTimeout;
 
     @PostMapping("{applicationId}/entries")
     public ResponseDTO<EntryDTO.Response> create(@PathVariable Long applicationId, @RequestBody EntryDTO.Request request) {
@@ -43,11 +69,23 @@ public class InternalController extends AbstractController{
         return ok(repaymentService.create(applicationId, request));
     }
 
+    @PostMapping(value = "/repayments/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    public ResponseDTO<List<RepaymentDTO.BulkResponse>> createAll(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream inputStream) {
+        return ok(repaymentService.createAll(inputStream, contentType));
+    }
+
     @GetMapping("{applicationId}/repayments")
     public ResponseDTO<List<RepaymentDTO.ListResponse>> getPayments(@PathVariable Long applicationId) {
         return ok(repaymentService.get(applicationId));
     }
 
+    @GetMapping(value = "{applicationId}/repayments", params = "size")
+    public ResponseDTO<PageDTO<RepaymentDTO.History>> getPayments(@PathVariable Long applicationId,
+                                                                  @RequestParam(required = false) Long cursor,
+                                                                  @RequestParam int size) {
+        return ok(repaymentService.get(applicationId, cursor, size));
+    }
+
     @PutMapping("/repayments/{repaymentId}")
     public ResponseDTO<RepaymentDTO.UpdateResponse> update(@PathVariable Long repaymentId, @RequestBody RepaymentDTO.Request request) {
         return ok(repaymentService.update(repaymentId, request));
@@ -58,4 +96,59 @@ public class InternalController extends AbstractController{
         repaymentService.delete(repaymentId);
         return ok();
     }
+
+    @PostMapping("/accruals")
+    public ResponseDTO<AccrualDTO.Response> accrue(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate accrualDate) {
+        return ok(accrualService.accrue(accrualDate));
+    }
+
+    @PostMapping("/judgments/auto")
+    public ResponseDTO<JudgmentDTO.BatchResponse> judgeAll() {
+        return ok(autoJudgmentService.judgeAll());
+    }
+
+    @PostMapping("/judgment-rules/reload")
+    public ResponseDTO<String> reloadJudgmentRules() {
+        return ok(judgmentRuleEngine.reload());
+    }
+
+    @PostMapping("/terms-acceptances/migrate")
+    public ResponseDTO<Long> migrateTermsAcceptances() {
+        return ok(termsAcceptanceService.migrate());
+    }
+
+    @GetMapping("/repayments/export")
+    public WebAsyncTask<Void> exportRepayments(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                               @RequestParam(defaultValue = "csv") String format,
+                                               @RequestParam(defaultValue = "false") boolean gzip,
+                                               HttpServletResponse response) {
+        ExportService.Format exportFormat = ExportService.Format.of(format);
+        return export("repayments", exportFormat, gzip, response,
+                outputStream -> exportService.exportRepayments(from, to, exportFormat, gzip, outputStream));
+    }
+
+    @GetMapping("/ledgers/export")
+    public WebAsyncTask<Void> exportLedgers(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                            @RequestParam(defaultValue = "csv") String format,
+                                            @RequestParam(defaultValue = "false") boolean gzip,
+                                            HttpServletResponse response) {
+        ExportService.Format exportFormat = ExportService.Format.of(format);
+        return export("ledgers", exportFormat, gzip, response,
+                outputStream -> exportService.exportLedgers(from, to, exportFormat, gzip, outputStream));
+    }
+
+    // 응답에 바로 쓰는 비동기 작업. StreamingResponseBody 는 전역 timeout 만 쓰므로 WebAsyncTask 로 timeout 지정
+    private WebAsyncTask<Void> export(String name, ExportService.Format format, boolean gzip,
+                                      HttpServletResponse response, StreamingResponseBody body) {
+        String filename = name + "." + format.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        return new WebAsyncTask<>(exportTimeout, () -> {
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
 }
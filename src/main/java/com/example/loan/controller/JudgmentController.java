@@ -3,9 +3,15 @@ package com.example.loan.controller;
 import com.example.loan.dto.ApplicationDTO;
 import com.example.loan.dto.JudgmentDTO;
 import com.example.loan.dto.ResponseDTO;
+import com.example.loan.service.AsyncJudgmentService;
+import com.example.loan.service.AutoJudgmentService;
 import com.example.loan.service.JudgmentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -13,12 +19,35 @@ import org.springframework.web.bind.annotation.*;
 public class JudgmentController extends AbstractController {
 
     private final JudgmentService judgmentService;
+    private final AutoJudgmentService autoJudgmentService;
+    private final AsyncJudgmentService asyncJudgmentService;
 
     @PostMapping
     public ResponseDTO<JudgmentDTO.Response> create(@RequestBody JudgmentDTO.Request request){
         return ok(judgmentService.create(request));
     }
 
+    // 접수만 하고 바로 ticket 반환. 대기열이 가득 차면 429 + Retry-After
+    @PostMapping("/async")
+    public ResponseEntity<ResponseDTO<JudgmentDTO.Ticket>> createAsync(@RequestBody JudgmentDTO.Request request){
+        return ResponseEntity.accepted().body(ok(asyncJudgmentService.submit(request)));
+    }
+
+    @GetMapping("/async/{ticketId}")
+    public ResponseDTO<JudgmentDTO.Ticket> getTicket(@PathVariable String ticketId){
+        return ok(asyncJudgmentService.get(ticketId));
+    }
+
+    @GetMapping(value = "/async/{ticketId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTicket(@PathVariable String ticketId){
+        return asyncJudgmentService.subscribe(ticketId);
+    }
+
+    @PostMapping("/applications/{applicationId}/auto")
+    public ResponseDTO<JudgmentDTO.Response> judge(@PathVariable Long applicationId){
+        return ok(autoJudgmentService.judge(applicationId));
+    }
+
     @GetMapping("/{judgmentId}")
     public ResponseDTO<JudgmentDTO.Response> get(@PathVariable Long judgmentId) {
         return ok(judgmentService.get(judgmentId));
@@ -44,4 +73,9 @@ public class JudgmentController extends AbstractController {
     public ResponseDTO<ApplicationDTO.GrantAmount> grant(@PathVariable Long judgmentId){
         return ok(judgmentService.grant(judgmentId));
     }
+
+    @PatchMapping("/grants")
+    public ResponseDTO<List<JudgmentDTO.GrantResponse>> grantAll(@RequestBody JudgmentDTO.GrantRequest request){
+        return ok(judgmentService.grantAll(request.getJudgmentIds()));
+    }
 }
@@ -4,8 +4,11 @@ import com.example.loan.dto.ResponseDTO;
 import com.example.loan.dto.TermsDTO;
 import com.example.loan.service.TermsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @RestController
@@ -19,8 +22,18 @@ public class TermsController extends AbstractController{
         return ok(termsService.create(request));
     }
 
+    // 미리 직렬화한 응답을 그대로 내려주고, If-None-Match 가 일치하면 본문 없이 304
     @GetMapping
-    public ResponseDTO<List<TermsDTO.Response>> getAll(){
-        return ok(termsService.getAll());
+    public ResponseEntity<byte[]> getAll(WebRequest webRequest){
+        TermsDTO.Snapshot snapshot = termsService.getSnapshot();
+        if (webRequest.checkNotModified(snapshot.getEtag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
     }
 }
@@ -15,10 +15,12 @@ import javax.persistence.*;
 @DynamicInsert
 @DynamicUpdate
 @Where(clause = "is_deleted=false")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_accept_terms_application_terms", columnNames = {"applicationId", "termsId"}))
 public class AcceptTerms extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accept_terms_seq_generator")
+    @SequenceGenerator(name = "accept_terms_seq_generator", sequenceName = "accept_terms_seq", allocationSize = 50)
     @Column(nullable = false, updatable = false)
     @EqualsAndHashCode.Include
     private Long acceptTermsId;
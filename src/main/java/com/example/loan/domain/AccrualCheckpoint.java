@@ -0,0 +1,42 @@
+package com.example.loan.domain;
+
+import lombok.*;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Where;
+import javax.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamicInsert
+@DynamicUpdate
+@Where(clause = "is_deleted=false")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_accrual_checkpoint_date_range", columnNames = {"accrualDate", "rangeStart"}))
+public class AccrualCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accrual_checkpoint_seq_generator")
+    @SequenceGenerator(name = "accrual_checkpoint_seq_generator", sequenceName = "accrual_checkpoint_seq", allocationSize = 50)
+    @Column(nullable = false, updatable = false)
+    private Long accrualCheckpointId;
+
+    @Column(columnDefinition = "date NOT NULL COMMENT '이자 발생일'")
+    private LocalDate accrualDate;
+
+    @Column(columnDefinition = "bigint NOT NULL COMMENT '구간 시작 신청 ID (포함)'")
+    private Long rangeStart;
+
+    @Column(columnDefinition = "bigint NOT NULL COMMENT '구간 끝 신청 ID (포함)'")
+    private Long rangeEnd;
+
+    @Column(columnDefinition = "bigint NOT NULL COMMENT '처리 완료한 마지막 신청 ID'")
+    private Long lastApplicationId;
+
+    @Column(columnDefinition = "bit default false NOT NULL COMMENT '구간 완료 여부'")
+    private Boolean completed;
+}
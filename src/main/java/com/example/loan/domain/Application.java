@@ -7,6 +7,8 @@ import org.hibernate.annotations.Where;
 import javax.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Entity
 @Getter
@@ -17,10 +19,43 @@ import java.time.LocalDateTime;
 @DynamicInsert
 @DynamicUpdate
 @Where(clause = "is_deleted=false")
+@Table(indexes = {
+        @Index(name = "idx_application_applied_at", columnList = "isDeleted, appliedAt"),
+        @Index(name = "idx_application_contracted_at", columnList = "isDeleted, contractedAt"),
+        @Index(name = "idx_application_status", columnList = "status, isDeleted"),
+        @Index(name = "idx_application_cell_phone", columnList = "cellPhone, isDeleted"),
+        @Index(name = "idx_application_customer_key", columnList = "customerKey, status, isDeleted")
+})
 public class Application extends BaseEntity {
 
+    // 신청 진행 상태. 각 상태는 허용된 이전 상태에서만 전이
+    public enum Status {
+        APPLIED,
+        TERMS_ACCEPTED,
+        JUDGED,
+        GRANTED,
+        CONTRACTED,
+        DISBURSED,
+        REPAID,
+        CLOSED;
+
+        public Set<Status> getPredecessors() {
+            return switch (this) {
+                case APPLIED -> EnumSet.noneOf(Status.class);
+                case TERMS_ACCEPTED -> EnumSet.of(APPLIED, TERMS_ACCEPTED);
+                case JUDGED -> EnumSet.of(TERMS_ACCEPTED);
+                case GRANTED -> EnumSet.of(JUDGED, GRANTED);
+                case CONTRACTED -> EnumSet.of(GRANTED);
+                case DISBURSED -> EnumSet.of(CONTRACTED, DISBURSED, REPAID);
+                case REPAID -> EnumSet.of(DISBURSED);
+                case CLOSED -> EnumSet.of(REPAID);
+            };
+        }
+    }
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_seq_generator")
+    @SequenceGenerator(name = "application_seq_generator", sequenceName = "application_seq", allocationSize = 50)
     @Column(nullable = false, updatable = false)
     private Long applicationId;
 
@@ -33,6 +68,9 @@ public class Application extends BaseEntity {
     @Column(columnDefinition = "varchar(50) DEFAULT NULL COMMENT '신청자 이메일'")
     private String email;
 
+    @Column(columnDefinition = "varchar(36) DEFAULT NULL COMMENT '고객 키'")
+    private String customerKey;
+
     @Column(columnDefinition = "decimal(5,4) DEFAULT NULL COMMENT '금리'")
     private BigDecimal interestRate;
 
@@ -45,6 +83,12 @@ public class Application extends BaseEntity {
     @Column(columnDefinition = "decimal(15,2) DEFAULT NULL COMMENT '대출 신청 금액'")
     private BigDecimal hopeAmount;
 
+    @Column(columnDefinition = "decimal(15,2) DEFAULT NULL COMMENT '연소득'")
+    private BigDecimal annualIncome;
+
+    @Column(columnDefinition = "decimal(15,2) DEFAULT NULL COMMENT '기존 부채'")
+    private BigDecimal existingDebt;
+
     @Column(columnDefinition = "datetime DEFAULT NULL COMMENT '신청일자'")
     private LocalDateTime appliedAt;
 
@@ -53,4 +97,8 @@ public class Application extends BaseEntity {
 
     @Column(columnDefinition = "datetime DEFAULT NULL COMMENT '약정일자'")
     private LocalDateTime contractedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(20) DEFAULT 'APPLIED' NOT NULL COMMENT '진행 상태'")
+    private Status status;
 }
@@ -5,7 +5,6 @@ import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Where;
 import javax.persistence.*;
-import java.math.BigDecimal;
 
 @Entity
 @Getter
@@ -19,7 +18,8 @@ import java.math.BigDecimal;
 public class Balance extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_seq_generator")
+    @SequenceGenerator(name = "balance_seq_generator", sequenceName = "balance_seq", allocationSize = 50)
     @Column(nullable = false, updatable = false)
     private Long balanceId;
 
@@ -27,5 +27,5 @@ public class Balance extends BaseEntity {
     private Long applicationId;
 
     @Column(columnDefinition = "decimal(15,2) NOT NULL COMMENT '잔여 대출 금액'")
-    private BigDecimal balance;
+    private Money balance;
 }
@@ -0,0 +1,50 @@
+package com.example.loan.domain;
+
+import lombok.*;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Where;
+import javax.persistence.*;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamicInsert
+@DynamicUpdate
+@Where(clause = "is_deleted=false")
+@Table(indexes = @Index(name = "idx_balance_ledger_application", columnList = "applicationId, compacted"))
+public class BalanceLedger extends BaseEntity {
+
+    public enum LedgerType {
+        ENTRY_CREATE,
+        ENTRY_UPDATE,
+        ENTRY_DELETE,
+        REPAYMENT_CREATE,
+        REPAYMENT_UPDATE,
+        REPAYMENT_DELETE,
+        INTEREST_ACCRUAL
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_ledger_seq_generator")
+    @SequenceGenerator(name = "balance_ledger_seq_generator", sequenceName = "balance_ledger_seq", allocationSize = 50)
+    @Column(nullable = false, updatable = false)
+    private Long balanceLedgerId;
+
+    @Column(columnDefinition = "bigint NOT NULL COMMENT '신청 ID'")
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(20) NOT NULL COMMENT '변동 유형'")
+    private LedgerType type;
+
+    @Column(columnDefinition = "decimal(15,2) NOT NULL COMMENT '변동 금액'")
+    private Money amount;
+
+    // 스냅샷 반영 여부. ID 는 커밋 순서와 다를 수 있어 watermark 대신 행마다 표시
+    @Column(columnDefinition = "bit default false NOT NULL COMMENT '스냅샷 반영 여부'")
+    private Boolean compacted;
+}
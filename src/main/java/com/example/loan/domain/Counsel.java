@@ -16,13 +16,19 @@ import java.time.LocalDateTime;
 @DynamicInsert
 @DynamicUpdate
 @Where(clause = "is_deleted=false")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_counsel_intake_id", columnNames = {"intakeId"}),
+        indexes = @Index(name = "idx_counsel_customer_key", columnList = "customerKey, isDeleted"))
 public class Counsel extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "counsel_seq_generator")
+    @SequenceGenerator(name = "counsel_seq_generator", sequenceName = "counsel_seq", allocationSize = 50)
     @Column(nullable = false, updatable = false)
     private Long counselId;
 
+    @Column(columnDefinition = "varchar(36) DEFAULT NULL COMMENT '접수 ID (write-behind 접수 중복 반영 방지)'")
+    private String intakeId;
+
     @Column(columnDefinition = "datetime DEFAULT NULL COMMENT '신청일자'")
     private LocalDateTime appliedAt;
 
@@ -46,4 +52,7 @@ public class Counsel extends BaseEntity{
 
     @Column(columnDefinition = "varchar(5) DEFAULT NULL COMMENT '우편번호'")
     private String zipCode;
+
+    @Column(columnDefinition = "varchar(36) DEFAULT NULL COMMENT '고객 키'")
+    private String customerKey;
 }
@@ -0,0 +1,33 @@
+package com.example.loan.domain;
+
+import lombok.*;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Where;
+import javax.persistence.*;
+
+// 정규화한 전화번호/이메일의 HMAC digest -> 고객 키. 원문은 저장하지 않음
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamicInsert
+@DynamicUpdate
+@Where(clause = "is_deleted=false")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_customer_identity_digest", columnNames = {"identityDigest"}))
+public class CustomerIdentity extends BaseEntity{
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_identity_seq_generator")
+    @SequenceGenerator(name = "customer_identity_seq_generator", sequenceName = "customer_identity_seq", allocationSize = 50)
+    @Column(nullable = false, updatable = false)
+    private Long customerIdentityId;
+
+    @Column(columnDefinition = "varchar(64) NOT NULL COMMENT '전화번호/이메일 digest'")
+    private String identityDigest;
+
+    @Column(columnDefinition = "varchar(36) NOT NULL COMMENT '고객 키'")
+    private String customerKey;
+}
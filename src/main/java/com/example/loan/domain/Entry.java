@@ -19,7 +19,8 @@ import java.math.BigDecimal;
 public class Entry extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entry_seq_generator")
+    @SequenceGenerator(name = "entry_seq_generator", sequenceName = "entry_seq", allocationSize = 50)
     @Column(nullable = false, updatable = false)
     private Long entryId;
 
@@ -0,0 +1,43 @@
+package com.example.loan.domain;
+
+import lombok.*;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Where;
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamicInsert
+@DynamicUpdate
+@Where(clause = "is_deleted=false")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_interest_accrual_application_date", columnNames = {"applicationId", "accrualDate"}))
+public class InterestAccrual extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interest_accrual_seq_generator")
+    @SequenceGenerator(name = "interest_accrual_seq_generator", sequenceName = "interest_accrual_seq", allocationSize = 50)
+    @Column(nullable = false, updatable = false)
+    private Long interestAccrualId;
+
+    @Column(columnDefinition = "bigint NOT NULL COMMENT '신청 ID'")
+    private Long applicationId;
+
+    @Column(columnDefinition = "date NOT NULL COMMENT '이자 발생일'")
+    private LocalDate accrualDate;
+
+    @Column(columnDefinition = "decimal(15,2) NOT NULL COMMENT '이자 계산 기준 원금 (발생 이자 제외)'")
+    private Money balance;
+
+    @Column(columnDefinition = "decimal(5,4) NOT NULL COMMENT '금리'")
+    private BigDecimal interestRate;
+
+    @Column(columnDefinition = "decimal(15,2) NOT NULL COMMENT '발생 이자'")
+    private Money interestAmount;
+}
@@ -19,7 +19,8 @@ import java.math.BigDecimal;
 public class Judgment extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "judgment_seq_generator")
+    @SequenceGenerator(name = "judgment_seq_generator", sequenceName = "judgment_seq", allocationSize = 50)
     @Column(nullable = false, updatable = false)
     private Long judgmentId;
 
@@ -34,4 +35,8 @@ public class Judgment extends BaseEntity{
 
     @Column(columnDefinition = "decimal(5,4) DEFAULT NULL COMMENT '승인 금리'")
     private BigDecimal approvalInterestRate;
+
+    // 자동 심사 거절. 거절된 심사로는 한도 부여 불가
+    @Column(columnDefinition = "bit default false NOT NULL COMMENT '거절 여부'")
+    private Boolean rejected;
 }
@@ -16,10 +16,12 @@ import java.math.BigDecimal;
 @DynamicInsert
 @DynamicUpdate
 @Where(clause = "is_deleted=false")
+@Table(indexes = @Index(name = "idx_repayment_application", columnList = "applicationId, repaymentId, isDeleted, repaymentAmount, createdAt"))
 public class Repayment extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "repayment_seq_generator")
+    @SequenceGenerator(name = "repayment_seq_generator", sequenceName = "repayment_seq", allocationSize = 50)
     @Column(nullable = false, updatable = false)
     private Long repaymentId;
 
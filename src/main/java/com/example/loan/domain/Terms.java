@@ -19,7 +19,8 @@ import javax.persistence.*;
 public class Terms extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "terms_seq_generator")
+    @SequenceGenerator(name = "terms_seq_generator", sequenceName = "terms_seq", allocationSize = 50)
     @Column(nullable = false, updatable = false)
     @EqualsAndHashCode.Include
     private Long termsId;
@@ -0,0 +1,36 @@
+package com.example.loan.domain;
+
+import lombok.*;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Where;
+import javax.persistence.*;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamicInsert
+@DynamicUpdate
+@Where(clause = "is_deleted=false")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_terms_acceptance_application", columnNames = {"applicationId"}))
+public class TermsAcceptance extends BaseEntity{
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "terms_acceptance_seq_generator")
+    @SequenceGenerator(name = "terms_acceptance_seq_generator", sequenceName = "terms_acceptance_seq", allocationSize = 50)
+    @Column(nullable = false, updatable = false)
+    @EqualsAndHashCode.Include
+    private Long termsAcceptanceId;
+
+    @Column(columnDefinition = "bigint NOT NULL COMMENT '신청 ID'")
+    private Long applicationId;
+
+    @Column(columnDefinition = "bigint NOT NULL COMMENT '동의 당시 약관 카탈로그 revision'")
+    private Long catalogRevision;
+
+    @Column(columnDefinition = "varbinary(255) NOT NULL COMMENT '동의 약관 bitmap (약관 순번 기준)'")
+    private byte[] acceptedTerms;
+}
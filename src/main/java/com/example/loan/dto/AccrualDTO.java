@@ -0,0 +1,19 @@
+package com.example.loan.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+public class AccrualDTO implements Serializable {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private LocalDate accrualDate;
+        private Integer rangeCount;
+        private Long accruedCount;
+    }
+}
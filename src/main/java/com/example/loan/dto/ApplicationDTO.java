@@ -1,8 +1,11 @@
 package com.example.loan.dto;
 
+import com.example.loan.domain.Application;
 import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,6 +21,8 @@ public class ApplicationDTO implements Serializable {
         private String cellPhone;
         private String email;
         private BigDecimal hopeAmount;
+        private BigDecimal annualIncome;
+        private BigDecimal existingDebt;
     }
 
     @NoArgsConstructor
@@ -31,8 +36,14 @@ public class ApplicationDTO implements Serializable {
         private String cellPhone;
         private String email;
         private BigDecimal hopeAmount;
+        private BigDecimal annualIncome;
+        private BigDecimal existingDebt;
         private LocalDateTime appliedAt;
         private LocalDateTime contractedAt;
+        private Application.Status status;
+        private String customerKey;
+        // 같은 고객의 진행 중인 신청 (신청 시점에만 채움)
+        private Long duplicateApplicationId;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
@@ -56,4 +67,36 @@ public class ApplicationDTO implements Serializable {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchCondition {
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate appliedFrom;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate appliedTo;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate contractedFrom;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate contractedTo;
+        private Boolean contracted;
+        private Application.Status status;
+        private BigDecimal minHopeAmount;
+        private BigDecimal maxHopeAmount;
+        private String name;
+    }
+
+    // 신청 목록 조회용 interface projection
+    public interface Summary {
+        Long getApplicationId();
+        String getName();
+        BigDecimal getHopeAmount();
+        BigDecimal getApprovalAmount();
+        LocalDateTime getAppliedAt();
+        LocalDateTime getContractedAt();
+        Application.Status getStatus();
+    }
 }
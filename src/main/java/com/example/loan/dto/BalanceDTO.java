@@ -1,5 +1,7 @@
 package com.example.loan.dto;
 
+import com.example.loan.domain.BalanceLedger;
+import com.example.loan.domain.Money;
 import lombok.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -21,25 +23,10 @@ public class BalanceDTO implements Serializable {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class UpdateRequest {
-        private Long applicationId;
-        private BigDecimal beforeEntryAmount;
-        private BigDecimal afterEntryAmount;
-    }
-
-    @Getter
-    @Setter
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class RepaymentRequest {
-        public enum RepaymentType {
-            ADD,
-            REMOVE
-        }
-
-        private RepaymentType type;
-        private BigDecimal repaymentAmount;
+    public static class LedgerRequest {
+        private BalanceLedger.LedgerType type;
+        // 잔고 증감분 (집행 증액 +, 상환 -)
+        private Money amount;
     }
 
     @Getter
@@ -50,6 +37,6 @@ public class BalanceDTO implements Serializable {
     public static class Response {
         private Long balanceId;
         private Long applicationId;
-        private BigDecimal balance;
+        private Money balance;
     }
 }
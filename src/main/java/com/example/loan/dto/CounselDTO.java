@@ -28,6 +28,8 @@ public class CounselDTO implements Serializable {
     @AllArgsConstructor
     public static class Response {
         private Long counselId;
+        private String intakeId;
+        private String customerKey;
         private String name;
         private String cellPhone;
         private String email;
@@ -39,4 +41,22 @@ public class CounselDTO implements Serializable {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
+
+    // write-behind 접수 로그 한 건
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Intake {
+        private String intakeId;
+        private LocalDateTime appliedAt;
+        private String name;
+        private String cellPhone;
+        private String email;
+        private String memo;
+        private String address;
+        private String addressDetail;
+        private String zipCode;
+    }
 }
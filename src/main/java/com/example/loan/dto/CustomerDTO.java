@@ -0,0 +1,29 @@
+package com.example.loan.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.util.List;
+
+public class CustomerDTO implements Serializable {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Contact {
+        private String cellPhone;
+        private String email;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class History {
+        private String customerKey;
+        private List<CounselDTO.Response> counsels;
+        private List<ApplicationDTO.Response> applications;
+    }
+}
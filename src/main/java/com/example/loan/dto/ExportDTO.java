@@ -0,0 +1,36 @@
+package com.example.loan.dto;
+
+import com.example.loan.domain.BalanceLedger;
+import com.example.loan.domain.Money;
+import lombok.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class ExportDTO implements Serializable {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RepaymentRow {
+        private Long repaymentId;
+        private Long applicationId;
+        private BigDecimal repaymentAmount;
+        private LocalDateTime createdAt;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LedgerRow {
+        private Long balanceLedgerId;
+        private Long applicationId;
+        private BalanceLedger.LedgerType type;
+        private Money amount;
+        private LocalDateTime createdAt;
+    }
+}
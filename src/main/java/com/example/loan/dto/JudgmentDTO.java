@@ -4,6 +4,7 @@ import lombok.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class JudgmentDTO implements Serializable {
 
@@ -28,7 +29,61 @@ public class JudgmentDTO implements Serializable {
         private Long applicationId;
         private String name;
         private BigDecimal approvalAmount;
+        private BigDecimal approvalInterestRate;
+        private Boolean rejected;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GrantRequest {
+        private List<Long> judgmentIds;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GrantResponse {
+        private Long judgmentId;
+        private Long applicationId;
+        private BigDecimal approvalAmount;
+        private ResultObject result;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchResponse {
+        private String ruleVersion;
+        private Long judgedCount;
+        private Long approvedCount;
+        private Long elapsedMillis;
+    }
+
+    public enum TicketStatus {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    // 비동기 심사 요청 접수증
+    @Getter
+    @Setter
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Ticket {
+        private String ticketId;
+        private TicketStatus status;
+        private Response judgment;
+        private ResultObject result;
+        private LocalDateTime requestedAt;
+        private LocalDateTime completedAt;
+    }
 }
@@ -0,0 +1,51 @@
+package com.example.loan.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+// 자동 심사 룰셋 (judgment-rules.json). 비율/금리는 소수 (0.7 = 70%), 금액은 원 단위
+public class JudgmentRuleDTO implements Serializable {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RuleSet {
+        private String version;
+        private BigDecimal amountUnit;
+        private BigDecimal maxInterestRate;
+        private List<Band> hopeAmountBands;
+        private RepeatApplicant repeatApplicant;
+        private List<Band> debtToIncomeBands;
+        private Band missingIncome;
+    }
+
+    // upTo 이하 구간. upTo 가 없으면 상한 없음 (마지막 구간만 가능)
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Band {
+        private BigDecimal upTo;
+        private BigDecimal approvalRatio;
+        private BigDecimal interestRate;
+        private BigDecimal rateSurcharge;
+        private Boolean reject;
+    }
+
+    // 같은 전화번호로 threshold 건 이상 신청 이력이 있으면 적용
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RepeatApplicant {
+        private Integer threshold;
+        private BigDecimal approvalRatio;
+        private BigDecimal rateSurcharge;
+    }
+}
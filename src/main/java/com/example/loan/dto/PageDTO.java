@@ -0,0 +1,19 @@
+package com.example.loan.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDTO<T> implements Serializable {
+
+    private List<T> content;
+
+    private Long nextCursor;
+
+    private Boolean hasNext;
+}
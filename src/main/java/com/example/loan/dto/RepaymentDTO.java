@@ -54,4 +54,34 @@ public class RepaymentDTO implements Serializable {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkRequest {
+        private Long applicationId;
+        private BigDecimal repaymentAmount;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkResponse {
+        private Long rowNumber;
+        private Long applicationId;
+        private Long repaymentId;
+        private BigDecimal repaymentAmount;
+        private ResultObject result;
+    }
+
+    // 상환 이력 페이지 조회용 interface projection
+    public interface History {
+        Long getRepaymentId();
+        BigDecimal getRepaymentAmount();
+        LocalDateTime getCreatedAt();
+    }
 }
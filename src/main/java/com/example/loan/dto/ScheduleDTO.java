@@ -0,0 +1,43 @@
+package com.example.loan.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ScheduleDTO implements Serializable {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private Long applicationId;
+        private BigDecimal approvalAmount;
+        private BigDecimal interestRate;
+        private BigDecimal fee;
+        private BigDecimal feeAmount;
+        private LocalDateTime contractedAt;
+        private LocalDateTime maturity;
+        private Integer installmentCount;
+        private BigDecimal totalInterest;
+        private List<Installment> installments;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Installment {
+        private Integer installmentNumber;
+        private LocalDate dueDate;
+        private BigDecimal payment;
+        private BigDecimal principal;
+        private BigDecimal interest;
+        private BigDecimal remainingBalance;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.loan.dto;
+
+import com.example.loan.domain.Application;
+import lombok.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SnapshotDTO implements Serializable {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private Long applicationId;
+        private String name;
+        private String cellPhone;
+        private String email;
+        private BigDecimal hopeAmount;
+        private BigDecimal approvalAmount;
+        private BigDecimal interestRate;
+        private BigDecimal fee;
+        private LocalDateTime maturity;
+        private LocalDateTime appliedAt;
+        private LocalDateTime contractedAt;
+        private Application.Status status;
+        private Judgment judgment;
+        private Entry entry;
+        private BigDecimal balance;
+        private List<AcceptTerms> acceptTerms;
+        private List<Repayment> repayments;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Judgment {
+        private Long judgmentId;
+        private String name;
+        private BigDecimal approvalAmount;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long entryId;
+        private BigDecimal entryAmount;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AcceptTerms {
+        private Long acceptTermsId;
+        private Long termsId;
+        private String name;
+        private LocalDateTime acceptedAt;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Repayment {
+        private Long repaymentId;
+        private BigDecimal repaymentAmount;
+        private LocalDateTime createdAt;
+    }
+}
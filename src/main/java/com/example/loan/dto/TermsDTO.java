@@ -32,4 +32,16 @@ public class TermsDTO {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
+
+    // 직렬화까지 끝난 약관 목록 응답. 약관 카탈로그 버전이 바뀔 때만 새로 생성
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Getter
+    @Setter
+    public static class Snapshot {
+        private long version;
+        private String etag;
+        private byte[] body;
+    }
 }
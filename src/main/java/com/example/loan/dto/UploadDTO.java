@@ -0,0 +1,34 @@
+package com.example.loan.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public class UploadDTO implements Serializable {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private String fileName;
+        private Long size;
+    }
+
+    // offset: 지금까지 받은 바이트 수 (다음 chunk 시작 위치)
+    @Getter
+    @Setter
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private String uploadId;
+        private Long applicationId;
+        private String fileName;
+        private Long size;
+        private Long offset;
+        private Boolean completed;
+        private LocalDateTime createdAt;
+    }
+}
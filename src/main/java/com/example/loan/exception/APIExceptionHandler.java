@@ -3,6 +3,9 @@ package com.example.loan.exception;
 import com.example.loan.dto.ResponseDTO;
 import com.example.loan.dto.ResultObject;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import javax.servlet.http.HttpServletRequest;
@@ -17,4 +20,12 @@ public class APIExceptionHandler extends RuntimeException {
         log.error(e.getMessage(), e);
         return new ResponseDTO<>(e);
     }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<ResponseDTO<ResultObject>> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn(e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ResponseDTO<>(e));
+    }
 }
@@ -9,6 +9,7 @@ public enum ResultType {
 
     SUCCESS("0000", "success"),
     NOT_EXIST("4001", "file not exist"),
+    TOO_MANY_REQUESTS("4290", "too many requests"),
     SYSTEM_ERROR("9000", "system error");
 
     private final String code;
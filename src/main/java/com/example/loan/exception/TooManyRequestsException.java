@@ -0,0 +1,15 @@
+package com.example.loan.exception;
+
+import lombok.Getter;
+
+// 처리 대기열이 가득 찬 경우. retryAfterSeconds 뒤 재시도 안내
+@Getter
+public class TooManyRequestsException extends BaseException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(ResultType.TOO_MANY_REQUESTS, "retry after " + retryAfterSeconds + " seconds");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,9 +1,22 @@
 package com.example.loan.repository;
 
 import com.example.loan.domain.AcceptTerms;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface AcceptTermsRepository extends JpaRepository<AcceptTerms, Long> {
+
+    @Query("select a.termsId from AcceptTerms a where a.applicationId = :applicationId")
+    List<Long> findTermsIdsByApplicationId(@Param("applicationId") Long applicationId);
+
+    @Query("select distinct a.applicationId from AcceptTerms a where a.applicationId > :afterId order by a.applicationId")
+    List<Long> findApplicationIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    List<AcceptTerms> findAllByApplicationIdIn(Collection<Long> applicationIds);
 }
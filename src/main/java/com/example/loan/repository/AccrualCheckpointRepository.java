@@ -0,0 +1,22 @@
+package com.example.loan.repository;
+
+import com.example.loan.domain.AccrualCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AccrualCheckpointRepository extends JpaRepository<AccrualCheckpoint, Long> {
+    List<AccrualCheckpoint> findAllByAccrualDateOrderByRangeStart(LocalDate accrualDate);
+
+    @Modifying
+    @Query("update AccrualCheckpoint c set c.lastApplicationId = :lastApplicationId, c.completed = :completed, " +
+            "c.updatedAt = current_timestamp where c.accrualCheckpointId = :accrualCheckpointId")
+    int updateProgress(@Param("accrualCheckpointId") Long accrualCheckpointId,
+                       @Param("lastApplicationId") Long lastApplicationId,
+                       @Param("completed") Boolean completed);
+}
@@ -1,9 +1,156 @@
 package com.example.loan.repository;
 
+import com.example.loan.config.CacheConfig;
 import com.example.loan.domain.Application;
+import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
+
+    interface IdRange {
+        Long getMinId();
+        Long getMaxId();
+    }
+
+    interface CellPhoneCount {
+        String getCellPhone();
+        Long getApplicationCount();
+    }
+
+    interface AccrualTarget {
+        Long getApplicationId();
+        BigDecimal getInterestRate();
+        LocalDateTime getContractedAt();
+        LocalDateTime getMaturity();
+    }
+
+    // 현재 상태가 expected 중 하나일 때만 변경. 변경된 건수가 0 이면 전이 실패
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @CacheEvict(value = CacheConfig.APPLICATION, key = "#p0")
+    @Query("update Application a set a.status = :status, a.updatedAt = current_timestamp " +
+            "where a.applicationId = :applicationId and a.status in :expected")
+    int updateStatus(@Param("applicationId") Long applicationId, @Param("status") Application.Status status,
+                     @Param("expected") Collection<Application.Status> expected);
+
+    @CacheEvict(value = CacheConfig.APPLICATION, key = "#p0")
+    default void transit(Long applicationId, Application.Status status) {
+        transit(applicationId, status, status.getPredecessors());
+    }
+
+    // 삭제로 이전 단계로 되돌리는 경우처럼 정상 흐름 밖의 전이는 허용할 이전 상태를 직접 지정
+    @CacheEvict(value = CacheConfig.APPLICATION, key = "#p0")
+    default void transit(Long applicationId, Application.Status status, Collection<Application.Status> expected) {
+        if (updateStatus(applicationId, status, expected) == 0) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "invalid application status");
+        }
+    }
+
+    // 여러 신청을 한 번에 전이. 대상은 호출 전에 잠금으로 확정해 두어야 함
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @CacheEvict(value = CacheConfig.APPLICATION, allEntries = true)
+    @Query("update Application a set a.status = :status, a.updatedAt = current_timestamp " +
+            "where a.applicationId in :applicationIds and a.status in :expected")
+    int updateStatusAll(@Param("applicationIds") Collection<Long> applicationIds, @Param("status") Application.Status status,
+                        @Param("expected") Collection<Application.Status> expected);
+
+    // 심사 승인 금액을 신청에 일괄 복사 + 한도 부여 상태로 전이
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @CacheEvict(value = CacheConfig.APPLICATION, allEntries = true)
+    @Query("update Application a set a.approvalAmount = (select j.approvalAmount from Judgment j " +
+            "where j.applicationId = a.applicationId and j.judgmentId in :judgmentIds), " +
+            "a.status = com.example.loan.domain.Application$Status.GRANTED, a.updatedAt = current_timestamp " +
+            "where a.applicationId in :applicationIds and a.status in :expected")
+    int grantAll(@Param("judgmentIds") Collection<Long> judgmentIds, @Param("applicationIds") Collection<Long> applicationIds,
+                 @Param("expected") Collection<Application.Status> expected);
+
+    boolean existsByApplicationId(Long applicationId);
+
+    @Query("select a.applicationId from Application a where a.applicationId > :afterId order by a.applicationId")
+    List<Long> findApplicationIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    boolean existsByApplicationIdAndStatus(Long applicationId, Application.Status status);
+
+    // 자동 심사 대기(약관 동의) 신청 ID
+    @Query("select a.applicationId from Application a where a.applicationId > :afterId " +
+            "and a.status = com.example.loan.domain.Application$Status.TERMS_ACCEPTED order by a.applicationId")
+    List<Long> findJudgmentPendingIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Application> findAllByApplicationIdInAndStatus(Collection<Long> applicationIds, Application.Status status);
+
+    @Query("select a.cellPhone as cellPhone, count(a) as applicationCount from Application a " +
+            "where a.cellPhone in :cellPhones group by a.cellPhone")
+    List<CellPhoneCount> countByCellPhones(@Param("cellPhones") Collection<String> cellPhones);
+
+    // 집행 완료(상환 가능) 상태의 신청 ID
+    @Query("select a.applicationId from Application a " +
+            "where a.applicationId in :applicationIds and a.status = com.example.loan.domain.Application$Status.DISBURSED")
+    List<Long> findRepayableApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
+
+    @Query("select min(a.applicationId) as minId, max(a.applicationId) as maxId from Application a " +
+            "where a.status = com.example.loan.domain.Application$Status.DISBURSED")
+    IdRange findAccruableIdRange();
+
+    // keyset: (afterId, toId] 구간을 신청 ID 순으로
+    @Query("select a.applicationId as applicationId, a.interestRate as interestRate, " +
+            "a.contractedAt as contractedAt, a.maturity as maturity from Application a " +
+            "where a.status = com.example.loan.domain.Application$Status.DISBURSED " +
+            "and a.applicationId > :afterId and a.applicationId <= :toId " +
+            "order by a.applicationId")
+    List<AccrualTarget> findAccrualTargets(@Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+
+    // 조건이 null 이면 해당 조건은 무시. 최신 신청부터 cursor(applicationId) 이전 건만 조회
+    @Query("select a.applicationId as applicationId, a.name as name, a.hopeAmount as hopeAmount, " +
+            "a.approvalAmount as approvalAmount, a.appliedAt as appliedAt, a.contractedAt as contractedAt, a.status as status " +
+            "from Application a where a.applicationId < :cursor " +
+            "and (:appliedFrom is null or a.appliedAt >= :appliedFrom) " +
+            "and (:appliedTo is null or a.appliedAt < :appliedTo) " +
+            "and (:contractedFrom is null or a.contractedAt >= :contractedFrom) " +
+            "and (:contractedTo is null or a.contractedAt < :contractedTo) " +
+            "and (:contracted is null or (:contracted = true and a.contractedAt is not null) " +
+            "or (:contracted = false and a.contractedAt is null)) " +
+            "and (:minHopeAmount is null or a.hopeAmount >= :minHopeAmount) " +
+            "and (:maxHopeAmount is null or a.hopeAmount <= :maxHopeAmount) " +
+            "and (:status is null or a.status = :status) " +
+            "and (:namePrefix is null or a.name like :namePrefix escape '!') " +
+            "order by a.applicationId desc")
+    List<ApplicationDTO.Summary> search(@Param("cursor") Long cursor,
+                                        @Param("appliedFrom") LocalDateTime appliedFrom,
+                                        @Param("appliedTo") LocalDateTime appliedTo,
+                                        @Param("contractedFrom") LocalDateTime contractedFrom,
+                                        @Param("contractedTo") LocalDateTime contractedTo,
+                                        @Param("contracted") Boolean contracted,
+                                        @Param("minHopeAmount") BigDecimal minHopeAmount,
+                                        @Param("maxHopeAmount") BigDecimal maxHopeAmount,
+                                        @Param("status") Application.Status status,
+                                        @Param("namePrefix") String namePrefix,
+                                        Pageable pageable);
+
+    List<Application> findAllByCustomerKeyOrderByApplicationIdDesc(String customerKey);
+
+    // 같은 고객의 특정 상태 신청 ID (최신순). idx_application_customer_key 로 조회
+    @Query("select a.applicationId from Application a where a.customerKey = :customerKey and a.status in :statuses " +
+            "order by a.applicationId desc")
+    List<Long> findIdsByCustomerKeyAndStatusIn(@Param("customerKey") String customerKey,
+                                               @Param("statuses") Collection<Application.Status> statuses,
+                                               Pageable pageable);
 }
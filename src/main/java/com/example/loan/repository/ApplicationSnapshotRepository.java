@@ -0,0 +1,51 @@
+package com.example.loan.repository;
+
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Money;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 신청 상세 화면용 조회 전용 read model
+@org.springframework.stereotype.Repository
+public interface ApplicationSnapshotRepository extends org.springframework.data.repository.Repository<Application, Long> {
+
+    interface SnapshotRow {
+        Long getApplicationId();
+        String getName();
+        String getCellPhone();
+        String getEmail();
+        BigDecimal getHopeAmount();
+        BigDecimal getApprovalAmount();
+        BigDecimal getInterestRate();
+        BigDecimal getFee();
+        LocalDateTime getMaturity();
+        LocalDateTime getAppliedAt();
+        LocalDateTime getContractedAt();
+        Application.Status getStatus();
+        Long getJudgmentId();
+        String getJudgmentName();
+        BigDecimal getJudgmentApprovalAmount();
+        Long getEntryId();
+        BigDecimal getEntryAmount();
+        Money getBalance();
+        Money getPendingAmount();
+    }
+
+    // 신청 + 심사 + 집행 + 잔고(스냅샷 + 미반영 원장 합계)를 한 번에
+    @Query("select a.applicationId as applicationId, a.name as name, a.cellPhone as cellPhone, a.email as email, " +
+            "a.hopeAmount as hopeAmount, a.approvalAmount as approvalAmount, a.interestRate as interestRate, a.fee as fee, " +
+            "a.maturity as maturity, a.appliedAt as appliedAt, a.contractedAt as contractedAt, a.status as status, " +
+            "j.judgmentId as judgmentId, j.name as judgmentName, j.approvalAmount as judgmentApprovalAmount, " +
+            "e.entryId as entryId, e.entryAmount as entryAmount, b.balance as balance, " +
+            "(select coalesce(sum(l.amount), 0) from BalanceLedger l " +
+            "where l.applicationId = a.applicationId and l.compacted = false) as pendingAmount " +
+            "from Application a " +
+            "left join Judgment j on j.applicationId = a.applicationId and j.isDeleted = false " +
+            "left join Entry e on e.applicationId = a.applicationId and e.isDeleted = false " +
+            "left join Balance b on b.applicationId = a.applicationId and b.isDeleted = false " +
+            "where a.applicationId = :applicationId")
+    List<SnapshotRow> findSnapshot(@Param("applicationId") Long applicationId);
+}
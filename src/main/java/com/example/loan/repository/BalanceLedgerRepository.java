@@ -0,0 +1,74 @@
+package com.example.loan.repository;
+
+import com.example.loan.domain.BalanceLedger;
+import com.example.loan.domain.Money;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface BalanceLedgerRepository extends JpaRepository<BalanceLedger, Long> {
+
+    interface CurrentBalance {
+        Long getApplicationId();
+        Money getBalance();
+        Money getPendingAmount();
+    }
+
+    interface LedgerAmount {
+        Long getApplicationId();
+        Money getAmount();
+    }
+
+    interface UncompactedLedger {
+        Long getBalanceLedgerId();
+        Money getAmount();
+    }
+
+    // 신청별 특정 유형 원장 합계 (compaction 여부와 무관)
+    @Query("select l.applicationId as applicationId, sum(l.amount) as amount from BalanceLedger l " +
+            "where l.applicationId in :applicationIds and l.type = :type group by l.applicationId")
+    List<LedgerAmount> sumAmounts(@Param("applicationIds") Collection<Long> applicationIds,
+                                  @Param("type") BalanceLedger.LedgerType type);
+
+    // 스냅샷과 미반영 원장 합계를 한 문장으로 읽어 그 사이 compaction 이 끼어들지 않게 함
+    @Query("select b.applicationId as applicationId, b.balance as balance, " +
+            "(select coalesce(sum(l.amount), 0) from BalanceLedger l " +
+            "where l.applicationId = b.applicationId and l.compacted = false) as pendingAmount " +
+            "from Balance b where b.applicationId in :applicationIds")
+    List<CurrentBalance> findCurrentBalances(@Param("applicationIds") Collection<Long> applicationIds);
+
+    // 미반영 원장이 있는 신청 ID (keyset)
+    @Query("select distinct l.applicationId from BalanceLedger l, Balance b " +
+            "where b.applicationId = l.applicationId and b.isDeleted = false " +
+            "and l.compacted = false and l.applicationId > :afterId order by l.applicationId")
+    List<Long> findUncompactedApplicationIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select l.balanceLedgerId as balanceLedgerId, l.amount as amount from BalanceLedger l " +
+            "where l.applicationId = :applicationId and l.compacted = false")
+    List<UncompactedLedger> findUncompactedLedgers(@Param("applicationId") Long applicationId);
+
+    // 다른 compactor 가 먼저 표시한 원장은 제외되므로 반환 건수로 경합 확인
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update BalanceLedger l set l.compacted = true, l.updatedAt = current_timestamp " +
+            "where l.balanceLedgerId in :balanceLedgerIds and l.compacted = false")
+    int markCompacted(@Param("balanceLedgerIds") Collection<Long> balanceLedgerIds);
+
+    // 대사용 export. 전체를 메모리에 올리지 않도록 fetch size 단위 forward-only 커서로 조회
+    // (MySQL 은 datasource url 에 useCursorFetch=true 가 있어야 fetch size 를 따름, application-mysql.yml 참고)
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select l from BalanceLedger l where l.createdAt >= :from and l.createdAt < :to order by l.balanceLedgerId")
+    Stream<BalanceLedger> streamAllByCreatedAt(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,11 +1,23 @@
 package com.example.loan.repository;
 
 import com.example.loan.domain.Balance;
+import com.example.loan.domain.Money;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 @Repository
 public interface BalanceRepository extends JpaRepository<Balance, Long> {
     Optional<Balance> findByApplicationId(Long applicationId);
+
+    // compaction 한 원장 합계를 스냅샷에 더함 (원장 표시와 같은 트랜잭션에서 호출)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Balance b set b.balance = b.balance + :delta, b.updatedAt = current_timestamp " +
+            "where b.applicationId = :applicationId and b.isDeleted = false")
+    int addBalance(@Param("applicationId") Long applicationId, @Param("delta") Money delta);
 }
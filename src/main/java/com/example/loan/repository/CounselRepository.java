@@ -1,9 +1,32 @@
 package com.example.loan.repository;
 
 import com.example.loan.domain.Counsel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface CounselRepository extends JpaRepository<Counsel, Long> {
+
+    interface IdRange {
+        Long getMinId();
+        Long getMaxId();
+    }
+
+    @Query("select min(c.counselId) as minId, max(c.counselId) as maxId from Counsel c")
+    IdRange findIdRange();
+
+    // keyset: (afterId, toId] 구간을 상담 ID 순으로
+    @Query("select c from Counsel c where c.counselId > :afterId and c.counselId <= :toId order by c.counselId")
+    List<Counsel> findRange(@Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+
+    // 삭제된 상담까지 포함해야 하므로 @Where 를 타지 않는 native query
+    @Query(value = "select intake_id from counsel where intake_id in (:intakeIds)", nativeQuery = true)
+    List<String> findIntakeIdsIn(@Param("intakeIds") Collection<String> intakeIds);
+
+    List<Counsel> findAllByCustomerKeyOrderByCounselIdDesc(String customerKey);
 }
@@ -0,0 +1,13 @@
+package com.example.loan.repository;
+
+import com.example.loan.domain.CustomerIdentity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CustomerIdentityRepository extends JpaRepository<CustomerIdentity, Long> {
+
+    List<CustomerIdentity> findAllByIdentityDigestIn(Collection<String> identityDigests);
+}
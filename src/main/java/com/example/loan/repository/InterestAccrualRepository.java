@@ -0,0 +1,12 @@
+package com.example.loan.repository;
+
+import com.example.loan.domain.InterestAccrual;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface InterestAccrualRepository extends JpaRepository<InterestAccrual, Long> {
+    List<InterestAccrual> findAllByAccrualDate(LocalDate accrualDate);
+}
@@ -1,11 +1,33 @@
 package com.example.loan.repository;
 
 import com.example.loan.domain.Repayment;
+import com.example.loan.dto.RepaymentDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface RepaymentRepository extends JpaRepository<Repayment, Long> {
     List<Repayment> findAllByApplicationId(Long applicationId);
+
+    // 최신 상환부터 cursor(repaymentId) 이전 건만 조회. 인덱스만으로 조회되도록 필요한 컬럼만 선택
+    @Query("select r.repaymentId as repaymentId, r.repaymentAmount as repaymentAmount, r.createdAt as createdAt " +
+            "from Repayment r where r.applicationId = :applicationId and r.repaymentId < :cursor order by r.repaymentId desc")
+    List<RepaymentDTO.History> findHistory(@Param("applicationId") Long applicationId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 대사용 export. 전체를 메모리에 올리지 않도록 fetch size 단위 forward-only 커서로 조회
+    // (MySQL 은 datasource url 에 useCursorFetch=true 가 있어야 fetch size 를 따름, application-mysql.yml 참고)
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select r from Repayment r where r.createdAt >= :from and r.createdAt < :to order by r.repaymentId")
+    Stream<Repayment> streamAllByCreatedAt(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,19 @@
+package com.example.loan.repository;
+
+import com.example.loan.domain.TermsAcceptance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TermsAcceptanceRepository extends JpaRepository<TermsAcceptance, Long> {
+
+    Optional<TermsAcceptance> findByApplicationId(Long applicationId);
+
+    @Query("select t.applicationId from TermsAcceptance t where t.applicationId in :applicationIds")
+    List<Long> findApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
+}
@@ -2,8 +2,20 @@ package com.example.loan.repository;
 
 import com.example.loan.domain.Terms;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 
 @Repository
 public interface TermsRepository extends JpaRepository<Terms, Long> {
+
+    interface Revision {
+        Long getTermsCount();
+        Long getMaxTermsId();
+        LocalDateTime getLastUpdatedAt();
+    }
+
+    // 다른 인스턴스의 약관 변경 감지용
+    @Query("select count(t) as termsCount, max(t.termsId) as maxTermsId, max(t.updatedAt) as lastUpdatedAt from Terms t")
+    Revision findRevision();
 }
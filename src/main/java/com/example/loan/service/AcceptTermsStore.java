@@ -0,0 +1,17 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.SnapshotDTO;
+import java.util.BitSet;
+import java.util.List;
+
+// 약관 동의 내역 저장소. loan.terms.acceptance-store 로 행 단위(rows) / bitmap 방식 선택
+public interface AcceptTermsStore {
+
+    // accepted 는 catalog 의 약관 순번 bitset. 최초 동의면 기존 내역 확인을 생략
+    void save(Long applicationId, TermsCatalog.Snapshot catalog, BitSet accepted, boolean firstAcceptance);
+
+    boolean hasAcceptedAll(Long applicationId, TermsCatalog.Snapshot catalog);
+
+    // 동의한 약관 목록 (약관 ID 순). 약관 이름은 catalog 기준
+    List<SnapshotDTO.AcceptTerms> findAccepted(Long applicationId, TermsCatalog.Snapshot catalog);
+}
@@ -0,0 +1,9 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.AccrualDTO;
+import java.time.LocalDate;
+
+public interface AccrualService {
+    AccrualDTO.Response accrue(LocalDate accrualDate);
+    void accrueDaily();
+}
@@ -0,0 +1,203 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.AccrualCheckpoint;
+import com.example.loan.domain.BalanceLedger;
+import com.example.loan.domain.InterestAccrual;
+import com.example.loan.domain.Money;
+import com.example.loan.dto.AccrualDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import com.example.loan.repository.AccrualCheckpointRepository;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.BalanceLedgerRepository;
+import com.example.loan.repository.InterestAccrualRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccrualServiceImpl implements AccrualService {
+
+    private static final BigDecimal DAYS_OF_YEAR = BigDecimal.valueOf(365);
+    private static final int RANGES_PER_THREAD = 4;
+
+    @Value("${loan.accrual.parallelism:8}")
+    private int parallelism;
+
+    @Value("${loan.accrual.batch-size:1000}")
+    private int batchSize;
+
+    private final ApplicationRepository applicationRepository;
+    private final InterestAccrualRepository interestAccrualRepository;
+    private final AccrualCheckpointRepository accrualCheckpointRepository;
+    private final BalanceLedgerRepository balanceLedgerRepository;
+    private final BalanceService balanceService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Scheduled(cron = "${loan.accrual.cron:0 10 0 * * *}")
+    public void accrueDaily() {
+        AccrualDTO.Response result = accrue(LocalDate.now().minusDays(1));
+        log.info("interest accrual finished. date={}, ranges={}, accrued={}",
+                result.getAccrualDate(), result.getRangeCount(), result.getAccruedCount());
+    }
+
+    @Override
+    public AccrualDTO.Response accrue(LocalDate accrualDate) {
+        List<AccrualCheckpoint> checkpoints = prepareCheckpoints(accrualDate);
+        AtomicLong accruedCount = new AtomicLong();
+
+        // 신청 ID 구간별로 병렬 처리. 각 구간은 batch 단위 트랜잭션으로 이자/원장/체크포인트를 함께 커밋.
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            CompletableFuture<?>[] futures = checkpoints.stream()
+                    .filter(checkpoint -> !checkpoint.getCompleted())
+                    .map(checkpoint -> CompletableFuture.runAsync(() -> accrueRange(checkpoint, accruedCount), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            log.error(e.getMessage(), e);
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getCause().getMessage());
+        } finally {
+            executor.shutdown();
+        }
+
+        return AccrualDTO.Response.builder()
+                .accrualDate(accrualDate)
+                .rangeCount(checkpoints.size())
+                .accruedCount(accruedCount.get())
+                .build();
+    }
+
+    // 같은 날짜로 재실행하면 처음 나눈 구간과 체크포인트를 이어서 사용하고, 그 뒤 늘어난 신청 ID 만 새 구간으로 추가
+    private List<AccrualCheckpoint> prepareCheckpoints(LocalDate accrualDate) {
+        List<AccrualCheckpoint> existing = accrualCheckpointRepository.findAllByAccrualDateOrderByRangeStart(accrualDate);
+
+        ApplicationRepository.IdRange idRange = applicationRepository.findAccruableIdRange();
+        if (idRange == null || idRange.getMinId() == null) {
+            return existing;
+        }
+
+        long minId = idRange.getMinId();
+        long maxId = idRange.getMaxId();
+        if (!existing.isEmpty()) {
+            minId = existing.get(existing.size() - 1).getRangeEnd() + 1;
+        }
+        if (minId > maxId) {
+            return existing;
+        }
+
+        long rangeCount = (long) parallelism * RANGES_PER_THREAD;
+        long rangeSize = Math.max(1, (maxId - minId + rangeCount) / rangeCount);
+
+        List<AccrualCheckpoint> checkpoints = new ArrayList<>();
+        for (long rangeStart = minId; rangeStart <= maxId; rangeStart += rangeSize) {
+            checkpoints.add(AccrualCheckpoint.builder()
+                    .accrualDate(accrualDate)
+                    .rangeStart(rangeStart)
+                    .rangeEnd(Math.min(maxId, rangeStart + rangeSize - 1))
+                    .lastApplicationId(rangeStart - 1)
+                    .completed(false)
+                    .build());
+        }
+
+        List<AccrualCheckpoint> prepared = new ArrayList<>(existing);
+        prepared.addAll(accrualCheckpointRepository.saveAll(checkpoints));
+        return prepared;
+    }
+
+    private void accrueRange(AccrualCheckpoint checkpoint, AtomicLong accruedCount) {
+        boolean completed = false;
+        while (!completed) {
+            completed = Boolean.TRUE.equals(transactionTemplate.execute(status -> accrueBatch(checkpoint, accruedCount)));
+        }
+    }
+
+    private boolean accrueBatch(AccrualCheckpoint checkpoint, AtomicLong accruedCount) {
+        LocalDate accrualDate = checkpoint.getAccrualDate();
+        List<ApplicationRepository.AccrualTarget> targets = applicationRepository.findAccrualTargets(
+                checkpoint.getLastApplicationId(), checkpoint.getRangeEnd(), PageRequest.of(0, batchSize));
+
+        List<Long> applicationIds = targets.stream().map(ApplicationRepository.AccrualTarget::getApplicationId).toList();
+        Map<Long, Money> principals = targets.isEmpty() ? Map.of() : principalsOf(applicationIds);
+
+        List<InterestAccrual> accruals = new ArrayList<>();
+        Map<Long, Money> interests = new HashMap<>();
+        for (ApplicationRepository.AccrualTarget target : targets) {
+            Money principal = principals.get(target.getApplicationId());
+            if (!isAccruable(target, principal, accrualDate)) {
+                continue;
+            }
+
+            Money interest = Money.of(principal.toBigDecimal().multiply(target.getInterestRate())
+                    .divide(DAYS_OF_YEAR, Money.SCALE, RoundingMode.HALF_UP));
+            if (interest.signum() == 0) {
+                continue;
+            }
+
+            accruals.add(InterestAccrual.builder()
+                    .applicationId(target.getApplicationId())
+                    .accrualDate(accrualDate)
+                    .balance(principal)
+                    .interestRate(target.getInterestRate())
+                    .interestAmount(interest)
+                    .build());
+            interests.put(target.getApplicationId(), interest);
+        }
+
+        interestAccrualRepository.saveAll(accruals);
+        balanceService.appendAll(BalanceLedger.LedgerType.INTEREST_ACCRUAL, interests);
+
+        boolean completed = targets.size() < batchSize;
+        if (!targets.isEmpty()) {
+            checkpoint.setLastApplicationId(targets.get(targets.size() - 1).getApplicationId());
+        }
+        checkpoint.setCompleted(completed);
+        accrualCheckpointRepository.updateProgress(checkpoint.getAccrualCheckpointId(), checkpoint.getLastApplicationId(), completed);
+
+        accruedCount.addAndGet(accruals.size());
+        return completed;
+    }
+
+    // 이자는 원금에만 붙고 복리로 계산하지 않음. 원금 = 잔고 - 지금까지 발생한 이자 원장 합계
+    // (상환은 원금부터 차감한 것으로 봄)
+    private Map<Long, Money> principalsOf(List<Long> applicationIds) {
+        Map<Long, Money> principals = new HashMap<>(balanceService.getAll(applicationIds));
+        balanceLedgerRepository.sumAmounts(applicationIds, BalanceLedger.LedgerType.INTEREST_ACCRUAL)
+                .forEach(accrued -> principals.computeIfPresent(accrued.getApplicationId(),
+                        (applicationId, balance) -> balance.subtract(accrued.getAmount())));
+        return principals;
+    }
+
+    // 약정일 다음날부터 만기일까지, 원금과 금리가 있는 건만 일할 계산
+    private boolean isAccruable(ApplicationRepository.AccrualTarget target, Money principal, LocalDate accrualDate) {
+        if (principal == null || principal.signum() <= 0) {
+            return false;
+        }
+        if (target.getInterestRate() == null || target.getInterestRate().signum() <= 0) {
+            return false;
+        }
+        if (!target.getContractedAt().toLocalDate().isBefore(accrualDate)) {
+            return false;
+        }
+        return target.getMaturity() == null || !target.getMaturity().toLocalDate().isBefore(accrualDate);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.loan.service;
+
+import com.example.loan.repository.ApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 살아있는 신청 ID 를 bitset 으로 메모리에 유지해 존재 확인을 DB 없이 답함. 생성/삭제는 커밋 후 반영하고,
+// 다른 인스턴스의 변경은 주기적 재적재로 반영. 첫 적재 전에만 DB 로 확인
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationIdRegistry {
+
+    private static final int LOAD_BATCH_SIZE = 10000;
+
+    private final ApplicationRepository applicationRepository;
+
+    private BitSet ids = new BitSet();
+    private boolean loaded;
+    // 재적재 중 커밋된 생성/삭제. 적재 결과에 덮어써서 교체
+    private BitSet addedDuringLoad;
+    private BitSet removedDuringLoad;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${loan.application.registry-reload-delay:600000}",
+            fixedDelayString = "${loan.application.registry-reload-delay:600000}")
+    public synchronized void load() {
+        // 조회 전에 기록을 시작해야 조회가 놓친 변경도 남음
+        lock.writeLock().lock();
+        try {
+            addedDuringLoad = new BitSet();
+            removedDuringLoad = new BitSet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        BitSet loadedIds = new BitSet();
+        long afterId = 0;
+        List<Long> page;
+        try {
+            do {
+                page = applicationRepository.findApplicationIds(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                page.stream()
+                        .filter(applicationId -> applicationId <= Integer.MAX_VALUE)
+                        .forEach(applicationId -> loadedIds.set(applicationId.intValue()));
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1);
+                }
+            } while (page.size() == LOAD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            stopRecording();
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            loadedIds.or(addedDuringLoad);
+            loadedIds.andNot(removedDuringLoad);
+            ids = loadedIds;
+            loaded = true;
+            addedDuringLoad = null;
+            removedDuringLoad = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("application id registry loaded. count={}", loadedIds.cardinality());
+    }
+
+    public boolean exists(Long applicationId) {
+        if (applicationId == null || applicationId < 0) {
+            return false;
+        }
+        // bitset 에 담지 못하는 ID 는 DB 로 확인
+        if (applicationId > Integer.MAX_VALUE) {
+            return applicationRepository.existsByApplicationId(applicationId);
+        }
+
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return ids.get(applicationId.intValue());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return applicationRepository.existsByApplicationId(applicationId);
+    }
+
+    public void add(Long applicationId) {
+        if (applicationId == null || applicationId < 0 || applicationId > Integer.MAX_VALUE) {
+            return;
+        }
+
+        int id = applicationId.intValue();
+        lock.writeLock().lock();
+        try {
+            ids.set(id);
+            if (addedDuringLoad != null) {
+                addedDuringLoad.set(id);
+                removedDuringLoad.clear(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long applicationId) {
+        if (applicationId == null || applicationId < 0 || applicationId > Integer.MAX_VALUE) {
+            return;
+        }
+
+        int id = applicationId.intValue();
+        lock.writeLock().lock();
+        try {
+            ids.clear(id);
+            if (removedDuringLoad != null) {
+                removedDuringLoad.set(id);
+                addedDuringLoad.clear(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopRecording() {
+        lock.writeLock().lock();
+        try {
+            addedDuringLoad = null;
+            removedDuringLoad = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.loan.service;
 
 import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.dto.PageDTO;
 
 public interface ApplicationService {
 
     ApplicationDTO.Response create(ApplicationDTO.Request request);
     ApplicationDTO.Response get(Long applicationId);
+    PageDTO<ApplicationDTO.Summary> search(ApplicationDTO.SearchCondition condition, Long cursor, int size);
     ApplicationDTO.Response update(Long applicationId, ApplicationDTO.Request request);
     void delete(Long applicationId);
     Boolean acceptTerms(Long applicationId, ApplicationDTO.AcceptTerms request);
+    Boolean hasAcceptedAllTerms(Long applicationId);
     ApplicationDTO.Response contract(Long applicationId);
 }
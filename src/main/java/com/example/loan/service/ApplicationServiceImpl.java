@@ -1,44 +1,73 @@
 package com.example.loan.service;
 
-import com.example.loan.domain.AcceptTerms;
+import com.example.loan.aspect.SingleFlight;
+import com.example.loan.config.CacheConfig;
 import com.example.loan.domain.Application;
-import com.example.loan.domain.Terms;
 import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.dto.PageDTO;
 import com.example.loan.exception.BaseException;
 import com.example.loan.exception.ResultType;
-import com.example.loan.repository.AcceptTermsRepository;
 import com.example.loan.repository.ApplicationRepository;
-import com.example.loan.repository.JudgmentRepository;
-import com.example.loan.repository.TermsRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.BitSet;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ApplicationServiceImpl implements ApplicationService{
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    // 계약 전 단계. 같은 고객의 신청이 이 상태면 중복 신청
+    private static final Set<Application.Status> IN_PROGRESS = EnumSet.of(
+            Application.Status.APPLIED, Application.Status.TERMS_ACCEPTED, Application.Status.JUDGED, Application.Status.GRANTED);
+
+    @Value("${loan.identity.reject-duplicate-application:false}")
+    private boolean rejectDuplicateApplication;
+
     private final ApplicationRepository applicationRepository;
-    private final TermsRepository termsRepository;
-    private final AcceptTermsRepository acceptTermsRepository;
-    private final JudgmentRepository judgmentRepository;
+    private final TermsCatalog termsCatalog;
+    private final AcceptTermsStore acceptTermsStore;
+    private final ScheduleService scheduleService;
+    private final CustomerIdentityService customerIdentityService;
     private final ModelMapper modelMapper;
 
     @Override
     public ApplicationDTO.Response create(ApplicationDTO.Request request) {
         Application application = modelMapper.map(request, Application.class);
         application.setAppliedAt(LocalDateTime.now());
+        application.setStatus(Application.Status.APPLIED);
+        application.setCustomerKey(customerIdentityService.resolve(request.getCellPhone(), request.getEmail()));
+
+        // 고객 키 + 상태 인덱스로 진행 중인 신청 한 건만 확인
+        Long duplicateApplicationId = application.getCustomerKey() == null ? null
+                : applicationRepository.findIdsByCustomerKeyAndStatusIn(application.getCustomerKey(), IN_PROGRESS, PageRequest.of(0, 1))
+                .stream().findFirst().orElse(null);
+        if (duplicateApplicationId != null && rejectDuplicateApplication) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "duplicate application: " + duplicateApplicationId);
+        }
 
         Application applied = applicationRepository.save(application);
-        return modelMapper.map(applied, ApplicationDTO.Response.class);
+        ApplicationDTO.Response response = modelMapper.map(applied, ApplicationDTO.Response.class);
+        response.setDuplicateApplicationId(duplicateApplicationId);
+        return response;
     }
 
     @Override
+    @Cacheable(value = CacheConfig.APPLICATION, key = "#applicationId")
+    @SingleFlight
     public ApplicationDTO.Response get(Long applicationId) {
         Application application = applicationRepository.findById(applicationId).orElseThrow(() -> {
            throw new BaseException(ResultType.SYSTEM_ERROR);
@@ -47,6 +76,35 @@ public class ApplicationServiceImpl implements ApplicationService{
     }
 
     @Override
+    public PageDTO<ApplicationDTO.Summary> search(ApplicationDTO.SearchCondition condition, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+
+        // 종료일은 당일까지 포함, 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ApplicationDTO.Summary> applications = applicationRepository.search(
+                cursor == null ? Long.MAX_VALUE : cursor,
+                startOf(condition.getAppliedFrom()),
+                startOf(nextDay(condition.getAppliedTo())),
+                startOf(condition.getContractedFrom()),
+                startOf(nextDay(condition.getContractedTo())),
+                condition.getContracted(),
+                condition.getMinHopeAmount(),
+                condition.getMaxHopeAmount(),
+                condition.getStatus(),
+                toPrefixPattern(condition.getName()),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = applications.size() > pageSize;
+        List<ApplicationDTO.Summary> content = hasNext ? applications.subList(0, pageSize) : applications;
+
+        return PageDTO.<ApplicationDTO.Summary>builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getApplicationId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    @CacheEvict(value = CacheConfig.APPLICATION, key = "#applicationId")
     public ApplicationDTO.Response update(Long applicationId, ApplicationDTO.Request request) {
         Application application = applicationRepository.findById(applicationId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
@@ -55,7 +113,10 @@ public class ApplicationServiceImpl implements ApplicationService{
         application.setName(request.getName());
         application.setCellPhone(request.getCellPhone());
         application.setEmail(request.getEmail());
+        application.setCustomerKey(customerIdentityService.resolve(request.getCellPhone(), request.getEmail()));
         application.setHopeAmount(request.getHopeAmount());
+        application.setAnnualIncome(request.getAnnualIncome());
+        application.setExistingDebt(request.getExistingDebt());
 
         applicationRepository.save(application);
 
@@ -63,6 +124,10 @@ public class ApplicationServiceImpl implements ApplicationService{
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.APPLICATION, key = "#applicationId"),
+            @CacheEvict(value = CacheConfig.JUDGMENT_OF_APPLICATION, key = "#applicationId")
+    })
     public void delete(Long applicationId) {
         Application application = applicationRepository.findById(applicationId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
@@ -74,60 +139,88 @@ public class ApplicationServiceImpl implements ApplicationService{
     }
 
     @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.APPLICATION, key = "#applicationId")
     public Boolean acceptTerms(Long applicationId, ApplicationDTO.AcceptTerms dto) {
-        applicationRepository.findById(applicationId).orElseThrow(() -> {
-            throw new BaseException(ResultType.SYSTEM_ERROR);
-        });
-
-        List<Terms> termsList = termsRepository.findAll(Sort.by(Sort.Direction.ASC, "termsId"));
-        if (termsList.isEmpty()){
+        TermsCatalog.Snapshot catalog = termsCatalog.current();
+        if (catalog.size() == 0){
             throw new BaseException(ResultType.SYSTEM_ERROR);
         }
 
-        List<Long> acceptTermsIds = dto.getAcceptTermsIds();
-        if (termsList.size() != acceptTermsIds.size()){
-            throw new BaseException(ResultType.SYSTEM_ERROR);
+        // 약관 순번 bitset 으로 존재 여부와 전체 동의 여부를 한 번에 확인 (중복 ID 는 한 번만 계산)
+        BitSet accepted = new BitSet(catalog.size());
+        for (Long termsId : dto.getAcceptTermsIds()) {
+            int ordinal = catalog.ordinalOf(termsId);
+            if (ordinal < 0){
+                throw new BaseException(ResultType.SYSTEM_ERROR);
+            }
+            accepted.set(ordinal);
         }
-
-        List<Long> termsIds = termsList.stream().map(Terms::getTermsId).toList();
-        Collections.sort(acceptTermsIds);
-
-        if (!termsIds.containsAll(acceptTermsIds)){
+        if (accepted.cardinality() != catalog.size()){
             throw new BaseException(ResultType.SYSTEM_ERROR);
         }
 
-        for(Long termsId : acceptTermsIds){
-            AcceptTerms accepted = AcceptTerms.builder()
-                    .termsId(termsId)
-                    .applicationId(applicationId)
-                    .build();
-            acceptTermsRepository.save(accepted);
+        // 최초 동의(신청 -> 약관 동의)가 아니면 상태 확인 + 전이 후 기존 동의 내역과 합침
+        boolean firstAcceptance = firstAcceptance(applicationId);
+        if (!firstAcceptance) {
+            applicationRepository.transit(applicationId, Application.Status.TERMS_ACCEPTED);
         }
+
+        acceptTermsStore.save(applicationId, catalog, accepted, firstAcceptance);
         return true;
     }
 
     @Override
+    public Boolean hasAcceptedAllTerms(Long applicationId) {
+        return acceptTermsStore.hasAcceptedAll(applicationId, termsCatalog.current());
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.APPLICATION, key = "#applicationId")
     public ApplicationDTO.Response contract(Long applicationId) {
         // 신청 정보 확인
         Application application = applicationRepository.findById(applicationId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
         });
 
-        // 심사 정보 확인
-        judgmentRepository.findByApplicationId(applicationId).orElseThrow(() -> {
-           throw new BaseException(ResultType.SYSTEM_ERROR);
-        });
-
         // 승인 금액 > 0
         if (application.getApprovalAmount() == null || application.getApprovalAmount().compareTo(BigDecimal.ZERO) == 0){
             throw new BaseException(ResultType.SYSTEM_ERROR);
         }
 
-        // 계약 체결
+        // 한도 부여(심사 완료) 상태에서만 계약 체결
+        applicationRepository.transit(applicationId, Application.Status.CONTRACTED);
+        application.setStatus(Application.Status.CONTRACTED);
         application.setContractedAt(LocalDateTime.now());
 
         Application updated = applicationRepository.save(application);
 
+        // 약정일자가 바뀌었으므로 상환 스케줄 캐시 제거
+        scheduleService.evict(applicationId);
+
         return modelMapper.map(updated, ApplicationDTO.Response.class);
     }
+
+    private boolean firstAcceptance(Long applicationId) {
+        return applicationRepository.updateStatus(applicationId, Application.Status.TERMS_ACCEPTED,
+                EnumSet.of(Application.Status.APPLIED)) > 0;
+    }
+
+    private LocalDateTime startOf(LocalDate date) {
+        return date == null ? null : date.atStartOfDay();
+    }
+
+    private LocalDate nextDay(LocalDate date) {
+        return date == null ? null : date.plusDays(1);
+    }
+
+    // 이름 앞부분 일치. 입력값의 like 와일드카드는 문자 그대로 비교
+    private String toPrefixPattern(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        // MySQL 에서 '\' 는 문자열 안에서도 escape 문자라 LIKE escape 는 '!' 사용
+        return name.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
 }
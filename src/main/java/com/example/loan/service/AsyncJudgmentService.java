@@ -0,0 +1,11 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.JudgmentDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface AsyncJudgmentService {
+
+    JudgmentDTO.Ticket submit(JudgmentDTO.Request request);
+    JudgmentDTO.Ticket get(String ticketId);
+    SseEmitter subscribe(String ticketId);
+}
@@ -0,0 +1,186 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.JudgmentDTO;
+import com.example.loan.dto.ResultObject;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import com.example.loan.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 심사 요청을 제한된 대기열에 넣고 고정 개수 worker 로 처리. 대기열이 가득 차면 바로 거절
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncJudgmentServiceImpl implements AsyncJudgmentService {
+
+    @Value("${loan.judgment.async.concurrency:8}")
+    private int concurrency;
+
+    @Value("${loan.judgment.async.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${loan.judgment.async.ticket-ttl-seconds:600}")
+    private long ticketTtlSeconds;
+
+    @Value("${loan.judgment.async.sse-timeout:30000}")
+    private long sseTimeout;
+
+    private final JudgmentService judgmentService;
+
+    private final Map<String, CompletableFuture<JudgmentDTO.Ticket>> inFlight = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    private Cache<String, JudgmentDTO.Ticket> tickets;
+
+    // 최근 처리 시간 이동 평균 (재시도 안내 시간 계산용)
+    private volatile double averageMillis = 100;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "judgment-async-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        tickets = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ticketTtlSeconds))
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public JudgmentDTO.Ticket submit(JudgmentDTO.Request request) {
+        JudgmentDTO.Ticket ticket = JudgmentDTO.Ticket.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .status(JudgmentDTO.TicketStatus.PENDING)
+                .requestedAt(LocalDateTime.now())
+                .build();
+        String ticketId = ticket.getTicketId();
+
+        tickets.put(ticketId, ticket);
+        inFlight.put(ticketId, new CompletableFuture<>());
+        try {
+            executor.execute(() -> run(ticket, request));
+        } catch (RejectedExecutionException e) {
+            tickets.invalidate(ticketId);
+            inFlight.remove(ticketId);
+            throw new TooManyRequestsException(retryAfterSeconds());
+        }
+        return ticket;
+    }
+
+    @Override
+    public JudgmentDTO.Ticket get(String ticketId) {
+        JudgmentDTO.Ticket ticket = tickets.getIfPresent(ticketId);
+        if (ticket == null) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "ticket not found");
+        }
+        return ticket;
+    }
+
+    @Override
+    public SseEmitter subscribe(String ticketId) {
+        // 완료 future 를 먼저 잡아야 그 사이 끝난 건도 놓치지 않음
+        CompletableFuture<JudgmentDTO.Ticket> completion = inFlight.get(ticketId);
+        JudgmentDTO.Ticket ticket = get(ticketId);
+        SseEmitter emitter = new SseEmitter(sseTimeout);
+
+        // 현재 상태를 먼저 보내고, 끝나지 않았으면 완료 시점에 결과를 보낸 뒤 종료
+        send(emitter, ticket);
+        if (completion == null || isFinished(ticket)) {
+            emitter.complete();
+        } else {
+            completion.thenAccept(finished -> {
+                send(emitter, finished);
+                emitter.complete();
+            });
+        }
+        return emitter;
+    }
+
+    private void run(JudgmentDTO.Ticket ticket, JudgmentDTO.Request request) {
+        long startedAt = System.currentTimeMillis();
+        update(ticket.toBuilder().status(JudgmentDTO.TicketStatus.RUNNING).build());
+
+        JudgmentDTO.Ticket finished;
+        try {
+            JudgmentDTO.Response judgment = judgmentService.create(request);
+            finished = ticket.toBuilder()
+                    .status(JudgmentDTO.TicketStatus.DONE)
+                    .judgment(judgment)
+                    .result(ResultObject.getSuccess())
+                    .completedAt(LocalDateTime.now())
+                    .build();
+        } catch (BaseException e) {
+            finished = failed(ticket, new ResultObject(e));
+        } catch (RuntimeException e) {
+            log.error(e.getMessage(), e);
+            finished = failed(ticket, new ResultObject(ResultType.SYSTEM_ERROR));
+        }
+
+        averageMillis = averageMillis * 0.9 + (System.currentTimeMillis() - startedAt) * 0.1;
+        update(finished);
+
+        CompletableFuture<JudgmentDTO.Ticket> completion = inFlight.remove(ticket.getTicketId());
+        if (completion != null) {
+            completion.complete(finished);
+        }
+    }
+
+    private JudgmentDTO.Ticket failed(JudgmentDTO.Ticket ticket, ResultObject result) {
+        return ticket.toBuilder()
+                .status(JudgmentDTO.TicketStatus.FAILED)
+                .result(result)
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void update(JudgmentDTO.Ticket ticket) {
+        tickets.put(ticket.getTicketId(), ticket);
+    }
+
+    private boolean isFinished(JudgmentDTO.Ticket ticket) {
+        return ticket.getStatus() == JudgmentDTO.TicketStatus.DONE || ticket.getStatus() == JudgmentDTO.TicketStatus.FAILED;
+    }
+
+    // 대기열이 빠지는 데 걸릴 예상 시간 (최소 1초)
+    private long retryAfterSeconds() {
+        double drainMillis = (double) executor.getQueue().size() * averageMillis / concurrency;
+        return Math.max(1, (long) Math.ceil(drainMillis / 1000));
+    }
+
+    private void send(SseEmitter emitter, JudgmentDTO.Ticket ticket) {
+        try {
+            emitter.send(SseEmitter.event().name(ticket.getStatus().name()).data(ticket));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
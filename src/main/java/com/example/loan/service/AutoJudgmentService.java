@@ -0,0 +1,9 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.JudgmentDTO;
+
+public interface AutoJudgmentService {
+
+    JudgmentDTO.Response judge(Long applicationId);
+    JudgmentDTO.BatchResponse judgeAll();
+}
@@ -0,0 +1,172 @@
+package com.example.loan.service;
+
+import com.example.loan.config.CacheConfig;
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Judgment;
+import com.example.loan.dto.JudgmentDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.JudgmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoJudgmentServiceImpl implements AutoJudgmentService {
+
+    private static final String JUDGE_NAME = "AUTO";
+
+    @Value("${loan.judgment.parallelism:4}")
+    private int parallelism;
+
+    @Value("${loan.judgment.batch-size:500}")
+    private int batchSize;
+
+    private final ApplicationRepository applicationRepository;
+    private final JudgmentRepository judgmentRepository;
+    private final JudgmentRuleEngine judgmentRuleEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ModelMapper modelMapper;
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.JUDGMENT_OF_APPLICATION, key = "#applicationId")
+    public JudgmentDTO.Response judge(Long applicationId) {
+        Application application = applicationRepository.findById(applicationId).orElseThrow(() -> {
+            throw new BaseException(ResultType.SYSTEM_ERROR);
+        });
+
+        // 약관 동의 상태에서만 심사
+        applicationRepository.transit(applicationId, Application.Status.JUDGED);
+
+        Map<String, Long> counts = countByCellPhones(List.of(application));
+        Judgment saved = judgmentRepository.save(toJudgment(application, counts));
+        return modelMapper.map(saved, JudgmentDTO.Response.class);
+    }
+
+    @Override
+    public JudgmentDTO.BatchResponse judgeAll() {
+        long startedAt = System.currentTimeMillis();
+        String ruleVersion = judgmentRuleEngine.version();
+        AtomicLong judgedCount = new AtomicLong();
+        AtomicLong approvedCount = new AtomicLong();
+
+        // 대기 신청 ID 를 batch 단위로 나눠 병렬 처리. 각 batch 는 잠금 + 심사 저장 + 상태 전이를 한 트랜잭션으로 커밋
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            long afterId = 0;
+            List<Long> applicationIds;
+            do {
+                applicationIds = applicationRepository.findJudgmentPendingIds(afterId, PageRequest.of(0, batchSize));
+                if (applicationIds.isEmpty()) {
+                    break;
+                }
+
+                List<Long> batch = applicationIds;
+                futures.add(CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                        status -> judgeBatch(batch, judgedCount, approvedCount)), executor));
+                afterId = applicationIds.get(applicationIds.size() - 1);
+            } while (applicationIds.size() == batchSize);
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            log.error(e.getMessage(), e);
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getCause().getMessage());
+        } finally {
+            executor.shutdown();
+        }
+
+        JudgmentDTO.BatchResponse response = JudgmentDTO.BatchResponse.builder()
+                .ruleVersion(ruleVersion)
+                .judgedCount(judgedCount.get())
+                .approvedCount(approvedCount.get())
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .build();
+        log.info("auto judgment finished. version={}, judged={}, approved={}, elapsed={}ms",
+                response.getRuleVersion(), response.getJudgedCount(), response.getApprovedCount(), response.getElapsedMillis());
+        return response;
+    }
+
+    private void judgeBatch(List<Long> applicationIds, AtomicLong judgedCount, AtomicLong approvedCount) {
+        // 그 사이 수동 심사된 건은 제외하고 나머지는 잠가서 전이 대상 확정
+        List<Application> applications = applicationRepository.findAllByApplicationIdInAndStatus(
+                applicationIds, Application.Status.TERMS_ACCEPTED);
+        if (applications.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> counts = countByCellPhones(applications);
+        List<Judgment> judgments = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            judgments.add(toJudgment(application, counts));
+        }
+
+        judgmentRepository.saveAll(judgments);
+        applicationRepository.updateStatusAll(applications.stream().map(Application::getApplicationId).toList(),
+                Application.Status.JUDGED, EnumSet.of(Application.Status.TERMS_ACCEPTED));
+
+        judgedCount.addAndGet(judgments.size());
+        approvedCount.addAndGet(judgments.stream().filter(judgment -> !judgment.getRejected()).count());
+    }
+
+    private Judgment toJudgment(Application application, Map<String, Long> counts) {
+        // 본인 신청은 빼고 같은 전화번호의 다른 신청 건수
+        long sameCellPhone = application.getCellPhone() == null ? 0 : counts.getOrDefault(application.getCellPhone(), 0L);
+        JudgmentRuleEngine.Decision decision = judgmentRuleEngine.evaluate(
+                longValueOf(application.getHopeAmount()),
+                (int) Math.max(0, sameCellPhone - 1),
+                longValueOf(application.getAnnualIncome()),
+                longValueOf(application.getExistingDebt()));
+
+        return Judgment.builder()
+                .applicationId(application.getApplicationId())
+                .name(JUDGE_NAME)
+                .approvalAmount(decision.getApprovalAmount())
+                .approvalInterestRate(decision.getApprovalInterestRate())
+                .rejected(!decision.approved())
+                .build();
+    }
+
+    private Map<String, Long> countByCellPhones(Collection<Application> applications) {
+        List<String> cellPhones = applications.stream()
+                .map(Application::getCellPhone)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (cellPhones.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> counts = new HashMap<>();
+        applicationRepository.countByCellPhones(cellPhones)
+                .forEach(count -> counts.put(count.getCellPhone(), count.getApplicationCount()));
+        return counts;
+    }
+
+    private long longValueOf(BigDecimal value) {
+        return value == null ? 0 : value.longValue();
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.loan.service;
 
+import com.example.loan.domain.BalanceLedger;
+import com.example.loan.domain.Money;
 import com.example.loan.dto.BalanceDTO;
+import java.util.Collection;
+import java.util.Map;
 
 public interface BalanceService {
     BalanceDTO.Response create(Long applicationId, BalanceDTO.CreateRequest request);
     BalanceDTO.Response get(Long applicationId);
-    BalanceDTO.Response update(Long applicationId, BalanceDTO.UpdateRequest request);
-    BalanceDTO.Response repaymentUpdate(Long applicationId, BalanceDTO.RepaymentRequest request);
+    Map<Long, Money> getAll(Collection<Long> applicationIds);
+    BalanceDTO.Response append(Long applicationId, BalanceDTO.LedgerRequest request);
+    void appendAll(BalanceLedger.LedgerType type, Map<Long, Money> amounts);
     void delete(Long applicationId);
+    void compact();
 }
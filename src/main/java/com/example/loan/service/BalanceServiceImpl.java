@@ -1,95 +1,116 @@
 package com.example.loan.service;
 
+import com.example.loan.config.CacheConfig;
 import com.example.loan.domain.Balance;
+import com.example.loan.domain.BalanceLedger;
+import com.example.loan.domain.Money;
 import com.example.loan.dto.BalanceDTO;
 import com.example.loan.exception.BaseException;
 import com.example.loan.exception.ResultType;
+import com.example.loan.repository.BalanceLedgerRepository;
 import com.example.loan.repository.BalanceRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import java.math.BigDecimal;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class BalanceServiceImpl implements BalanceService{
 
+    private static final int COMPACTION_BATCH_SIZE = 500;
+
     private final BalanceRepository balanceRepository;
-    private final ModelMapper modelMapper;
+    private final BalanceLedgerRepository balanceLedgerRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.BALANCE, key = "#applicationId")
     public BalanceDTO.Response create(Long applicationId, BalanceDTO.CreateRequest request) {
-        Balance balance = modelMapper.map(request, Balance.class);
-
-        // 첫 생성은 entry amount를 balance.
-        BigDecimal entryAmount = request.getEntryAmount();
-        balance.setApplicationId(applicationId);
-        balance.setBalance(entryAmount);
-
-        balanceRepository.findByApplicationId(applicationId).ifPresent(b -> {
-            balance.setBalanceId(b.getBalanceId());
-            balance.setIsDeleted(b.getIsDeleted());
-            balance.setCreatedAt(b.getCreatedAt());
-            balance.setUpdatedAt(b.getUpdatedAt());
-        });
-
-        Balance saved = balanceRepository.save(balance);
+        Money entryAmount = Money.of(request.getEntryAmount());
+
+        // 첫 생성은 entry amount를 balance. 기존 잔고가 있으면 entry amount 로 맞추는 차액을 원장에 기록.
+        Balance balance = balanceRepository.findByApplicationId(applicationId).orElse(null);
+        Money delta = entryAmount;
+        if (balance == null) {
+            balance = balanceRepository.save(Balance.builder()
+                    .applicationId(applicationId)
+                    .balance(Money.ZERO)
+                    .build());
+        } else {
+            delta = entryAmount.subtract(currentBalance(balance));
+        }
 
-        return modelMapper.map(saved, BalanceDTO.Response.class);
+        return appendLedger(balance, BalanceLedger.LedgerType.ENTRY_CREATE, delta);
     }
 
     @Override
+    @Cacheable(value = CacheConfig.BALANCE, key = "#applicationId")
     public BalanceDTO.Response get(Long applicationId) {
-        Balance balance = balanceRepository.findById(applicationId).orElseThrow(() -> {
+        Balance balance = balanceRepository.findByApplicationId(applicationId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
         });
 
-        return modelMapper.map(balance, BalanceDTO.Response.class);
+        return toResponse(balance, currentBalance(balance));
     }
 
     @Override
-    public BalanceDTO.Response update(Long applicationId, BalanceDTO.UpdateRequest request) {
-        Balance balance = balanceRepository.findByApplicationId(applicationId).orElseThrow(() -> {
-            throw new BaseException(ResultType.SYSTEM_ERROR);
-        });
-
-        BigDecimal beforeEntryAmount = request.getBeforeEntryAmount();
-        BigDecimal afterEntryAmount = request.getAfterEntryAmount();
-        BigDecimal updatedBalance = balance.getBalance();
-        updatedBalance = updatedBalance.subtract(beforeEntryAmount).add(afterEntryAmount);
-
-        balance.setBalance(updatedBalance);
-
-        Balance updated = balanceRepository.save(balance);
-
-        return modelMapper.map(updated, BalanceDTO.Response.class);
+    public Map<Long, Money> getAll(Collection<Long> applicationIds) {
+        // 스냅샷과 미반영 원장을 따로 읽으면 그 사이 compaction 결과가 빠지므로 한 문장으로
+        Map<Long, Money> balances = new HashMap<>();
+        balanceLedgerRepository.findCurrentBalances(applicationIds)
+                .forEach(current -> balances.put(current.getApplicationId(), current.getBalance().add(current.getPendingAmount())));
+        return balances;
     }
 
     @Override
-    public BalanceDTO.Response repaymentUpdate(Long applicationId, BalanceDTO.RepaymentRequest request) {
+    @Transactional
+    @CacheEvict(value = CacheConfig.BALANCE, key = "#applicationId")
+    public BalanceDTO.Response append(Long applicationId, BalanceDTO.LedgerRequest request) {
         Balance balance = balanceRepository.findByApplicationId(applicationId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
         });
 
-        BigDecimal updatedBalance = balance.getBalance();
-        BigDecimal repaymentAmount = request.getRepaymentAmount();
+        return appendLedger(balance, request.getType(), request.getAmount());
+    }
 
-        // 상환 정상 : balance - repaymentAmount
-        // 상환금 롤백 : balance + repaymentAmount
-        if (request.getType().equals(BalanceDTO.RepaymentRequest.RepaymentType.ADD)){
-            updatedBalance = updatedBalance.add(repaymentAmount);
-        } else {
-            updatedBalance = updatedBalance.subtract(repaymentAmount);
+    // 신청별 순증감액을 원장 한 건씩 기록 (잔고 스냅샷 존재 여부는 호출 측에서 검증)
+    @Override
+    @Transactional
+    public void appendAll(BalanceLedger.LedgerType type, Map<Long, Money> amounts) {
+        List<BalanceLedger> ledgers = amounts.entrySet().stream()
+                .map(amount -> BalanceLedger.builder()
+                        .applicationId(amount.getKey())
+                        .type(type)
+                        .amount(amount.getValue())
+                        .build())
+                .toList();
+
+        // pooled sequence 로 채번하므로 hibernate.jdbc.batch_size 단위로 묶여 insert
+        balanceLedgerRepository.saveAll(ledgers);
+
+        // 여러 key 를 한 번에 evict 할 수 없어 직접 제거. 트랜잭션 인지 캐시라 커밋 이후에 제거됨
+        Cache cache = cacheManager.getCache(CacheConfig.BALANCE);
+        if (cache != null) {
+            amounts.keySet().forEach(cache::evict);
         }
-
-        balance.setBalance(updatedBalance);
-
-        Balance updated = balanceRepository.save(balance);
-
-        return modelMapper.map(updated, BalanceDTO.Response.class);
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.BALANCE, key = "#applicationId")
     public void delete(Long applicationId) {
         Balance balance = balanceRepository.findByApplicationId(applicationId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
@@ -99,4 +120,63 @@ public class BalanceServiceImpl implements BalanceService{
 
         balanceRepository.save(balance);
     }
+
+    // 원장 변동분을 스냅샷(balance)으로 말아 올려 잔고 조회 시 합산할 원장 수를 일정하게 유지.
+    // 반영 여부를 원장마다 표시하므로 늦게 커밋된 원장도 다음 compaction 에서 반영된다.
+    @Override
+    @Scheduled(fixedDelayString = "${loan.balance.compaction-delay:60000}")
+    public void compact() {
+        Long afterId = Long.MIN_VALUE;
+        List<Long> applicationIds;
+        do {
+            applicationIds = balanceLedgerRepository.findUncompactedApplicationIds(afterId, PageRequest.of(0, COMPACTION_BATCH_SIZE));
+            for (Long applicationId : applicationIds) {
+                transactionTemplate.executeWithoutResult(status -> compact(applicationId, status));
+            }
+            if (!applicationIds.isEmpty()) {
+                afterId = applicationIds.get(applicationIds.size() - 1);
+            }
+        } while (applicationIds.size() == COMPACTION_BATCH_SIZE);
+    }
+
+    // 원장 표시와 스냅샷 반영을 한 트랜잭션으로. 표시 건수가 다르면 다른 compactor 와 경합한 것이므로 롤백
+    private void compact(Long applicationId, TransactionStatus status) {
+        List<BalanceLedgerRepository.UncompactedLedger> ledgers = balanceLedgerRepository.findUncompactedLedgers(applicationId);
+        if (ledgers.isEmpty()) {
+            return;
+        }
+
+        List<Long> balanceLedgerIds = ledgers.stream().map(BalanceLedgerRepository.UncompactedLedger::getBalanceLedgerId).toList();
+        Money delta = ledgers.stream().map(BalanceLedgerRepository.UncompactedLedger::getAmount).reduce(Money.ZERO, Money::add);
+        if (balanceLedgerRepository.markCompacted(balanceLedgerIds) != balanceLedgerIds.size()
+                || balanceRepository.addBalance(applicationId, delta) == 0) {
+            status.setRollbackOnly();
+        }
+    }
+
+    private BalanceDTO.Response appendLedger(Balance balance, BalanceLedger.LedgerType type, Money amount) {
+        balanceLedgerRepository.save(BalanceLedger.builder()
+                .applicationId(balance.getApplicationId())
+                .type(type)
+                .amount(amount)
+                .build());
+
+        return toResponse(balance, currentBalance(balance));
+    }
+
+    // 현재 잔고 = 스냅샷 + 미반영 원장 합계 (한 문장으로 조회)
+    private Money currentBalance(Balance balance) {
+        return balanceLedgerRepository.findCurrentBalances(List.of(balance.getApplicationId())).stream()
+                .findFirst()
+                .map(current -> current.getBalance().add(current.getPendingAmount()))
+                .orElseThrow(() -> new BaseException(ResultType.SYSTEM_ERROR));
+    }
+
+    private BalanceDTO.Response toResponse(Balance balance, Money current) {
+        return BalanceDTO.Response.builder()
+                .balanceId(balance.getBalanceId())
+                .applicationId(balance.getApplicationId())
+                .balance(current)
+                .build();
+    }
 }
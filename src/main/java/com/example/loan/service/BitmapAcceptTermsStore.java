@@ -0,0 +1,87 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Terms;
+import com.example.loan.domain.TermsAcceptance;
+import com.example.loan.dto.SnapshotDTO;
+import com.example.loan.repository.AcceptTermsRepository;
+import com.example.loan.repository.TermsAcceptanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+// 신청당 TermsAcceptance 한 행. 약관 순번 bitmap 과 동의 당시 카탈로그 revision 을 저장
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loan.terms.acceptance-store", havingValue = "bitmap")
+public class BitmapAcceptTermsStore implements AcceptTermsStore {
+
+    private final TermsAcceptanceRepository termsAcceptanceRepository;
+    private final AcceptTermsRepository acceptTermsRepository;
+
+    @Override
+    public void save(Long applicationId, TermsCatalog.Snapshot catalog, BitSet accepted, boolean firstAcceptance) {
+        Optional<TermsAcceptance> existing = firstAcceptance
+                ? Optional.empty()
+                : termsAcceptanceRepository.findByApplicationId(applicationId);
+
+        if (existing.isPresent()) {
+            // 같은 카탈로그에 대한 재동의면 합집합, 카탈로그가 바뀌었으면 새 순번 기준으로 교체
+            TermsAcceptance acceptance = existing.get();
+            BitSet bits = accepted;
+            if (acceptance.getCatalogRevision() == catalog.revision()) {
+                bits = BitSet.valueOf(acceptance.getAcceptedTerms());
+                bits.or(accepted);
+            }
+            acceptance.setCatalogRevision(catalog.revision());
+            acceptance.setAcceptedTerms(bits.toByteArray());
+            return;
+        }
+
+        termsAcceptanceRepository.save(TermsAcceptance.builder()
+                .applicationId(applicationId)
+                .catalogRevision(catalog.revision())
+                .acceptedTerms(accepted.toByteArray())
+                .build());
+    }
+
+    @Override
+    public boolean hasAcceptedAll(Long applicationId, TermsCatalog.Snapshot catalog) {
+        Optional<TermsAcceptance> acceptance = termsAcceptanceRepository.findByApplicationId(applicationId);
+        if (acceptance.isEmpty()) {
+            // 아직 이관되지 않은 신청은 기존 행 단위 내역으로 확인
+            return catalog.isAllAccepted(catalog.toBits(acceptTermsRepository.findTermsIdsByApplicationId(applicationId)));
+        }
+
+        // 동의 이후 약관 구성이 바뀌었으면 순번이 달라지므로 다시 동의해야 함
+        return acceptance.get().getCatalogRevision() == catalog.revision()
+                && catalog.isAllAccepted(BitSet.valueOf(acceptance.get().getAcceptedTerms()));
+    }
+
+    @Override
+    public List<SnapshotDTO.AcceptTerms> findAccepted(Long applicationId, TermsCatalog.Snapshot catalog) {
+        Optional<TermsAcceptance> acceptance = termsAcceptanceRepository.findByApplicationId(applicationId);
+        if (acceptance.isEmpty()) {
+            // 아직 이관되지 않은 신청
+            return new RowAcceptTermsStore(acceptTermsRepository).findAccepted(applicationId, catalog);
+        }
+        // 순번은 동의 당시 카탈로그 기준이라 구성이 바뀌었으면 풀 수 없음. hasAcceptedAll 과 같이 동의 내역 없음으로 봄
+        if (acceptance.get().getCatalogRevision() != catalog.revision()) {
+            return List.of();
+        }
+
+        return BitSet.valueOf(acceptance.get().getAcceptedTerms()).stream()
+                .filter(ordinal -> ordinal < catalog.size())
+                .mapToObj(ordinal -> {
+                    Terms terms = catalog.termsList().get(ordinal);
+                    return SnapshotDTO.AcceptTerms.builder()
+                            .termsId(terms.getTermsId())
+                            .name(terms.getName())
+                            .acceptedAt(acceptance.get().getUpdatedAt())
+                            .build();
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.UploadDTO;
+import java.io.InputStream;
+
+public interface ChunkedUploadService {
+    UploadDTO.Response init(Long applicationId, UploadDTO.Request request);
+    UploadDTO.Response append(Long applicationId, String uploadId, long offset, InputStream chunk);
+    UploadDTO.Response get(Long applicationId, String uploadId);
+    UploadDTO.Response complete(Long applicationId, String uploadId);
+}
@@ -0,0 +1,260 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.UploadDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// 큰 서류를 chunk 단위로 받아 임시 파일에 바로 이어 쓰고, 다 받으면 신청 디렉터리로 원자적으로 이동.
+// 받은 바이트 수(offset)는 임시 파일 크기 그대로이므로, 중단된 업로드는 조회한 offset 부터 다시 보내면 됨
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadServiceImpl implements ChunkedUploadService {
+
+    // 이동이 rename 이 되도록 임시 파일은 업로드 경로 안(같은 파일 시스템)에 둠
+    private static final String UPLOADS_DIRECTORY = ".uploads";
+    private static final String PART_SUFFIX = ".part";
+    private static final String META_SUFFIX = ".json";
+
+    @Value("${spring.servlet.multipart.location}")
+    private String uploadPath;
+
+    @Value("${loan.upload.max-size:1073741824}")
+    private long maxSize;
+
+    @Value("${loan.upload.buffer-size:65536}")
+    private int bufferSize;
+
+    @Value("${loan.upload.expire-hours:24}")
+    private long expireHours;
+
+    private final ApplicationIdRegistry applicationIdRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public UploadDTO.Response init(Long applicationId, UploadDTO.Request request) {
+        if (!applicationIdRegistry.exists(applicationId)) {
+            throw new BaseException(ResultType.SYSTEM_ERROR);
+        }
+        if (request.getSize() == null || request.getSize() <= 0 || request.getSize() > maxSize) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "invalid upload size");
+        }
+
+        UploadDTO.Response upload = UploadDTO.Response.builder()
+                .uploadId(UUID.randomUUID().toString())
+                .applicationId(applicationId)
+                .fileName(fileNameOf(request.getFileName()))
+                .size(request.getSize())
+                .offset(0L)
+                .completed(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+        try {
+            Files.createDirectories(uploadsDirectory());
+            Files.createFile(partOf(upload.getUploadId()));
+            objectMapper.writeValue(metaOf(upload.getUploadId()).toFile(), upload);
+        } catch (IOException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getMessage());
+        }
+        return upload;
+    }
+
+    // offset 이 지금까지 받은 크기와 같을 때만 이어 씀. 고정 크기 버퍼 하나로 옮기므로 chunk 크기와 무관하게 메모리 일정
+    @Override
+    public UploadDTO.Response append(Long applicationId, String requestedUploadId, long offset, InputStream chunk) {
+        String uploadId = uploadIdOf(requestedUploadId);
+        UploadDTO.Response upload = read(applicationId, uploadId);
+
+        try (FileChannel channel = FileChannel.open(partOf(uploadId), StandardOpenOption.WRITE)) {
+            FileLock lock = tryLock(channel);
+            long position = channel.size();
+            try {
+                if (offset != position) {
+                    throw new BaseException(ResultType.SYSTEM_ERROR, "offset mismatch. expected " + position);
+                }
+
+                ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+                ReadableByteChannel source = Channels.newChannel(chunk);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    if (position + buffer.remaining() > upload.getSize()) {
+                        throw new BaseException(ResultType.SYSTEM_ERROR, "chunk exceeds upload size");
+                    }
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                    buffer.clear();
+                }
+            } catch (IOException e) {
+                // 연결이 끊긴 경우. 여기까지 쓴 바이트는 유지되므로 클라이언트는 offset 을 조회해 이어서 보냄
+                log.warn("upload chunk interrupted. uploadId={}, offset={}", uploadId, position);
+                throw new BaseException(ResultType.SYSTEM_ERROR, "upload interrupted at " + position);
+            } finally {
+                channel.force(false);
+                lock.release();
+            }
+            return upload.toBuilder().offset(position).build();
+        } catch (IOException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getMessage());
+        }
+    }
+
+    @Override
+    public UploadDTO.Response get(Long applicationId, String requestedUploadId) {
+        String uploadId = uploadIdOf(requestedUploadId);
+        UploadDTO.Response upload = read(applicationId, uploadId);
+        try {
+            return upload.toBuilder().offset(Files.size(partOf(uploadId))).build();
+        } catch (IOException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getMessage());
+        }
+    }
+
+    @Override
+    public UploadDTO.Response complete(Long applicationId, String requestedUploadId) {
+        String uploadId = uploadIdOf(requestedUploadId);
+        UploadDTO.Response upload = read(applicationId, uploadId);
+        Path part = partOf(uploadId);
+
+        try {
+            // 이어 쓰는 중이면 완료하지 않음
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+                FileLock lock = tryLock(channel);
+                long received = channel.size();
+                lock.release();
+                if (received != upload.getSize()) {
+                    throw new BaseException(ResultType.SYSTEM_ERROR, "upload incomplete. received " + received);
+                }
+            }
+
+            Path directory = Paths.get(uploadPath, String.valueOf(applicationId));
+            Files.createDirectories(directory);
+            Path target = directory.resolve(upload.getFileName());
+
+            // 확인 후 이동하면 그 사이 같은 이름으로 저장된 파일을 덮어쓰므로, 이미 있으면 실패하는 hard link 로 옮김
+            try {
+                Files.createLink(target, part);
+            } catch (FileAlreadyExistsException e) {
+                // 링크 후 정리 전에 중단된 완료 요청이면 같은 파일
+                if (!Files.isSameFile(target, part)) {
+                    throw new BaseException(ResultType.SYSTEM_ERROR, "file already exists");
+                }
+            }
+            Files.delete(part);
+            Files.deleteIfExists(metaOf(uploadId));
+        } catch (IOException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getMessage());
+        }
+        return upload.toBuilder().offset(upload.getSize()).completed(true).build();
+    }
+
+    // 마지막 chunk 이후 오래 방치된 업로드 정리
+    @Scheduled(fixedDelayString = "${loan.upload.cleanup-delay:3600000}")
+    public void purgeExpired() {
+        Path directory = uploadsDirectory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        Instant expiredAt = Instant.now().minus(expireHours, ChronoUnit.HOURS);
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> parts = files.filter(file -> file.getFileName().toString().endsWith(PART_SUFFIX)).toList();
+            for (Path part : parts) {
+                if (Files.getLastModifiedTime(part).toInstant().isBefore(expiredAt)) {
+                    String uploadId = part.getFileName().toString().replace(PART_SUFFIX, "");
+                    Files.deleteIfExists(part);
+                    Files.deleteIfExists(metaOf(uploadId));
+                    log.info("expired upload purged. uploadId={}", uploadId);
+                }
+            }
+        } catch (IOException e) {
+            log.error("upload purge failed", e);
+        }
+    }
+
+    // uploadId 는 uploadIdOf 로 정규화한 값
+    private UploadDTO.Response read(Long applicationId, String uploadId) {
+        Path meta = metaOf(uploadId);
+        if (!Files.exists(meta)) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "upload not found");
+        }
+
+        UploadDTO.Response upload;
+        try {
+            upload = objectMapper.readValue(meta.toFile(), UploadDTO.Response.class);
+        } catch (IOException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getMessage());
+        }
+        if (!Objects.equals(upload.getApplicationId(), applicationId)) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "upload not found");
+        }
+        return upload;
+    }
+
+    private FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // 같은 프로세스에서 이미 잠금
+        }
+        throw new BaseException(ResultType.SYSTEM_ERROR, "upload in progress");
+    }
+
+    // 경로 조작 방지. 요청 값은 이 정규화 결과로만 경로를 만듦
+    private String uploadIdOf(String uploadId) {
+        try {
+            return UUID.fromString(uploadId).toString();
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "upload not found");
+        }
+    }
+
+    private String fileNameOf(String fileName) {
+        if (fileName == null || fileName.isBlank() || fileName.contains("/") || fileName.contains("\\")
+                || fileName.equals(".") || fileName.equals("..")) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "invalid file name");
+        }
+        return fileName;
+    }
+
+    private Path uploadsDirectory() {
+        return Paths.get(uploadPath, UPLOADS_DIRECTORY);
+    }
+
+    private Path partOf(String uploadId) {
+        return uploadsDirectory().resolve(uploadId + PART_SUFFIX);
+    }
+
+    private Path metaOf(String uploadId) {
+        return uploadsDirectory().resolve(uploadId + META_SUFFIX);
+    }
+}
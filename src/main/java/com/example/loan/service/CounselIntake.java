@@ -0,0 +1,10 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Counsel;
+
+// 상담 접수. loan.counsel.intake.mode 로 즉시 저장(direct) / 로그 후 일괄 저장(wal) 선택
+public interface CounselIntake {
+
+    // wal 모드는 로그에 기록한 뒤 바로 반환하므로 counselId 가 비어 있음
+    Counsel accept(Counsel counsel);
+}
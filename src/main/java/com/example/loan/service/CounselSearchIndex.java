@@ -0,0 +1,407 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Counsel;
+import com.example.loan.repository.CounselRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// 상담 이름/메모/주소/우편번호 역색인. 글자 unigram + bigram 단위 posting list 를 delta + varint 로 압축해 메모리에 유지
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounselSearchIndex {
+
+    @Value("${loan.counsel.index.parallelism:4}")
+    private int parallelism;
+
+    @Value("${loan.counsel.index.batch-size:1000}")
+    private int batchSize;
+
+    private final CounselRepository counselRepository;
+
+    private Map<String, PostingList> postings = new HashMap<>();
+    private BitSet deleted = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재구성 중 들어온 변경. 새 색인으로 교체한 뒤 다시 반영
+    private boolean rebuilding;
+    private final List<Counsel> pendingAdds = new ArrayList<>();
+    private final BitSet pendingRemoves = new BitSet();
+
+    // 상담 ID 구간을 나눠 병렬로 읽고, 구간 순서대로 이어 붙여 posting list 를 ID 오름차순으로 만듦
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        CounselRepository.IdRange idRange = counselRepository.findIdRange();
+        if (idRange == null || idRange.getMinId() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long minId = idRange.getMinId();
+        long maxId = idRange.getMaxId();
+        long rangeSize = Math.max(1, (maxId - minId + parallelism) / parallelism);
+
+        List<CompletableFuture<Map<String, List<Integer>>>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (long rangeStart = minId; rangeStart <= maxId; rangeStart += rangeSize) {
+                long afterId = rangeStart - 1;
+                long toId = Math.min(maxId, rangeStart + rangeSize - 1);
+                futures.add(CompletableFuture.supplyAsync(() -> indexRange(afterId, toId), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingAdds.clear();
+                pendingRemoves.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        } finally {
+            executor.shutdown();
+        }
+
+        Map<String, PostingList> rebuilt = new HashMap<>();
+        for (CompletableFuture<Map<String, List<Integer>>> future : futures) {
+            future.join().forEach((term, ids) -> {
+                PostingList postingList = rebuilt.computeIfAbsent(term, key -> new PostingList());
+                ids.forEach(postingList::add);
+            });
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = rebuilt;
+            deleted = new BitSet();
+            rebuilding = false;
+            pendingAdds.forEach(this::index);
+            deleted.or(pendingRemoves);
+            pendingAdds.clear();
+            pendingRemoves.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("counsel search index rebuilt. terms={}, bytes={}, elapsed={}ms", rebuilt.size(),
+                rebuilt.values().stream().mapToLong(PostingList::sizeInBytes).sum(), System.currentTimeMillis() - startedAt);
+    }
+
+    private Map<String, List<Integer>> indexRange(long afterId, long toId) {
+        Map<String, List<Integer>> partial = new HashMap<>();
+        List<Counsel> counsels;
+        do {
+            counsels = counselRepository.findRange(afterId, toId, PageRequest.of(0, batchSize));
+            for (Counsel counsel : counsels) {
+                if (isIndexable(counsel.getCounselId())) {
+                    int id = counsel.getCounselId().intValue();
+                    termsOf(counsel).forEach(term -> partial.computeIfAbsent(term, key -> new ArrayList<>()).add(id));
+                }
+            }
+            if (!counsels.isEmpty()) {
+                afterId = counsels.get(counsels.size() - 1).getCounselId();
+            }
+        } while (counsels.size() == batchSize);
+        return partial;
+    }
+
+    // 생성 시 호출
+    public void add(Counsel counsel) {
+        if (!isIndexable(counsel.getCounselId())) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            index(counsel);
+            if (rebuilding) {
+                pendingAdds.add(counsel);
+                pendingRemoves.clear(counsel.getCounselId().intValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 수정 시 호출. previousTerms 는 수정 전 termsOf 결과. 새로 생긴 단어만 추가하고,
+    // 사라진 단어는 남지만 검색 결과는 원문으로 다시 확인하므로 결과에 영향 없음
+    public void update(Counsel counsel, Set<String> previousTerms) {
+        if (!isIndexable(counsel.getCounselId())) {
+            return;
+        }
+
+        Set<String> addedTerms = termsOf(counsel);
+        addedTerms.removeAll(previousTerms);
+        int id = counsel.getCounselId().intValue();
+
+        lock.writeLock().lock();
+        try {
+            addedTerms.forEach(term -> postings.computeIfAbsent(term, key -> new PostingList()).add(id));
+            if (rebuilding) {
+                // 재구성 결과에 수정 전 원문이 들어갈 수 있으므로 교체 후 전체를 다시 색인
+                pendingAdds.add(counsel);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Counsel counsel) {
+        int id = counsel.getCounselId().intValue();
+        termsOf(counsel).forEach(term -> postings.computeIfAbsent(term, key -> new PostingList()).add(id));
+        deleted.clear(id);
+    }
+
+    public void remove(Long counselId) {
+        if (!isIndexable(counselId)) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            deleted.set(counselId.intValue());
+            if (rebuilding) {
+                pendingRemoves.set(counselId.intValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어 단어마다의 bigram(한 글자 단어는 그 글자)을 모두 포함하는 상담 ID (오름차순). 후보이므로 원문 확인 필요
+    public int[] search(String query) {
+        Set<String> terms = queryTermsOf(query);
+        if (terms.isEmpty()) {
+            return new int[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            // 짧은 posting list 부터 교집합
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    return new int[0];
+                }
+                lists.add(postingList);
+            }
+            lists.sort((a, b) -> Integer.compare(a.count, b.count));
+
+            int[] result = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i).toArray());
+            }
+            return Arrays.stream(result).filter(id -> !deleted.get(id)).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isIndexable(Long counselId) {
+        return counselId != null && counselId >= 0 && counselId <= Integer.MAX_VALUE;
+    }
+
+    // 원문 확인이 필드 단위이므로 필드를 이어 붙이지 않고 따로 색인
+    public Set<String> termsOf(Counsel counsel) {
+        Set<String> terms = new LinkedHashSet<>();
+        Stream.of(counsel.getName(), counsel.getMemo(), counsel.getAddress(), counsel.getAddressDetail(), counsel.getZipCode())
+                .filter(Objects::nonNull)
+                .forEach(text -> terms.addAll(tokenize(text)));
+        return terms;
+    }
+
+    // 검색 결과 원문 확인용. 공백/기호를 빼고 소문자로
+    static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    // 정규화한 원문의 모든 글자(unigram)와 이웃 글자 쌍(bigram). 공백/기호를 빼고 만들므로 띄어쓰기를 넘어 부분 일치
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+
+        int[] codePoints = normalize(text).codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            terms.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                terms.add(new String(codePoints, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    // 검색어는 공백으로 나눈 단어마다 정규화해 bigram 으로 (한 글자 단어는 unigram). 원문 확인과 같은 단위
+    static Set<String> queryTermsOf(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query == null) {
+            return terms;
+        }
+
+        for (String word : query.split("\\s+")) {
+            int[] codePoints = normalize(word).codePoints().toArray();
+            if (codePoints.length == 1) {
+                terms.add(new String(codePoints, 0, 1));
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                terms.add(new String(codePoints, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // 오름차순 ID 를 이전 ID 와의 차이(varint)로 저장. 대부분 새 ID 가 가장 크므로 뒤에 붙이기만 하면 됨
+    static class PostingList {
+
+        private byte[] data = new byte[8];
+        private int length;
+        private int count;
+        private int last = -1;
+
+        void add(int id) {
+            if (id > last) {
+                append(count == 0 ? id : id - last);
+                last = id;
+                count++;
+                return;
+            }
+
+            // 중간 삽입은 varint 를 삽입 위치까지만 읽고, 그 뒤 바이트는 한 번에 밀어 씀.
+            // 다음 ID 와의 차이를 (id - 이전 ID), (다음 ID - id) 두 값으로 나눠 기록
+            int position = 0;
+            int value = 0;
+            for (int i = 0; i < count; i++) {
+                int start = position;
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                int previous = value;
+                value = i == 0 ? delta : value + delta;
+                if (value == id) {
+                    return;
+                }
+                if (value > id) {
+                    int before = i == 0 ? id : id - previous;
+                    int after = value - id;
+                    int grow = sizeOf(before) + sizeOf(after) - (position - start);
+                    ensureCapacity(length + grow);
+                    System.arraycopy(data, position, data, position + grow, length - position);
+                    length += grow;
+                    write(write(start, before), after);
+                    count++;
+                    return;
+                }
+            }
+        }
+
+        int[] toArray() {
+            int[] ids = new int[count];
+            int position = 0;
+            int value = 0;
+            for (int i = 0; i < count; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                value = i == 0 ? delta : value + delta;
+                ids[i] = value;
+            }
+            return ids;
+        }
+
+        int sizeInBytes() {
+            return length;
+        }
+
+        private void append(int value) {
+            ensureCapacity(length + 5);
+            length = write(length, value);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, capacity));
+            }
+        }
+
+        // position 부터 varint 로 쓰고 다음 위치 반환
+        private int write(int position, int value) {
+            while ((value & ~0x7F) != 0) {
+                data[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[position++] = (byte) value;
+            return position;
+        }
+
+        private static int sizeOf(int value) {
+            int size = 1;
+            while ((value & ~0x7F) != 0) {
+                size++;
+                value >>>= 7;
+            }
+            return size;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.loan.service;
 
 import com.example.loan.dto.CounselDTO;
+import java.util.List;
 
 public interface CounselService {
     CounselDTO.Response create(CounselDTO.Request request);
     CounselDTO.Response get(Long counselId);
     CounselDTO.Response update(Long counselId, CounselDTO.Request request);
     void delete(Long counselId);
+    List<CounselDTO.Response> search(String query, int size);
 }
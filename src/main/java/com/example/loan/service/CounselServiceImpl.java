@@ -9,12 +9,24 @@ import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class CounselServiceImpl implements CounselService{
 
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final CounselRepository counselRepository;
+    private final CounselIntake counselIntake;
+    private final CounselSearchIndex counselSearchIndex;
+    private final CustomerIdentityService customerIdentityService;
     private final ModelMapper modelMapper;
 
     @Override
@@ -22,7 +34,9 @@ public class CounselServiceImpl implements CounselService{
         Counsel counsel = modelMapper.map(request, Counsel.class);
         counsel.setAppliedAt(LocalDateTime.now());
 
-        Counsel created = counselRepository.save(counsel);
+        // wal 모드는 아직 저장 전이라 counselId 가 없음 (색인은 flush 시점에 추가)
+        Counsel created = counselIntake.accept(counsel);
+        counselSearchIndex.add(created);
         return modelMapper.map(created, CounselDTO.Response.class);
     }
 
@@ -40,15 +54,18 @@ public class CounselServiceImpl implements CounselService{
             throw new BaseException(ResultType.SYSTEM_ERROR);
         });
 
+        Set<String> previousTerms = counselSearchIndex.termsOf(counsel);
         counsel.setName(request.getName());
         counsel.setCellPhone(request.getCellPhone());
         counsel.setEmail(request.getEmail());
+        counsel.setCustomerKey(customerIdentityService.resolve(request.getCellPhone(), request.getEmail()));
         counsel.setMemo(request.getMemo());
         counsel.setAddress(request.getAddress());
         counsel.setAddressDetail(request.getAddressDetail());
         counsel.setZipCode(request.getZipCode());
 
         counselRepository.save(counsel);
+        counselSearchIndex.update(counsel, previousTerms);
 
         return modelMapper.map(counsel, CounselDTO.Response.class);
     }
@@ -62,5 +79,44 @@ public class CounselServiceImpl implements CounselService{
         counsel.setIsDeleted(true);
 
         counselRepository.save(counsel);
+        counselSearchIndex.remove(counselId);
+    }
+
+    @Override
+    public List<CounselDTO.Response> search(String query, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        // 검색어 단어가 모두 포함된 상담만 (단어 순서 무관)
+        List<String> words = Arrays.stream((query == null ? "" : query).split("\\s+"))
+                .map(CounselSearchIndex::normalize)
+                .filter(word -> !word.isEmpty())
+                .toList();
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        // 색인 후보를 최신 상담부터 limit 단위로 조회하고, bigram 이 연속되지 않았던 건은 원문으로 다시 걸러냄
+        int[] candidates = counselSearchIndex.search(query);
+        List<CounselDTO.Response> results = new ArrayList<>();
+        for (int end = candidates.length; end > 0 && results.size() < limit; end -= limit) {
+            List<Long> counselIds = new ArrayList<>();
+            for (int i = end - 1; i >= Math.max(0, end - limit); i--) {
+                counselIds.add((long) candidates[i]);
+            }
+
+            counselRepository.findAllById(counselIds).stream()
+                    .filter(counsel -> matches(counsel, words))
+                    .sorted(Comparator.comparing(Counsel::getCounselId).reversed())
+                    .limit(limit - results.size())
+                    .forEach(counsel -> results.add(modelMapper.map(counsel, CounselDTO.Response.class)));
+        }
+        return results;
+    }
+
+    private boolean matches(Counsel counsel, List<String> words) {
+        List<String> texts = Stream.of(counsel.getName(), counsel.getMemo(), counsel.getAddress(), counsel.getAddressDetail(), counsel.getZipCode())
+                .filter(Objects::nonNull)
+                .map(CounselSearchIndex::normalize)
+                .toList();
+        return words.stream().allMatch(word -> texts.stream().anyMatch(text -> text.contains(word)));
     }
 }
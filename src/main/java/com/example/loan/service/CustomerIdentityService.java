@@ -0,0 +1,15 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.CustomerDTO;
+import java.util.List;
+
+public interface CustomerIdentityService {
+
+    // 전화번호/이메일에 연결된 고객 키. 처음 보는 값이면 새 키를 만들어 등록, 둘 다 없으면 null
+    String resolve(String cellPhone, String email);
+
+    // resolve 를 여러 건 한 번에 (조회 한 번 + 저장 한 번). 입력 순서대로 고객 키 반환
+    List<String> resolveAll(List<CustomerDTO.Contact> contacts);
+
+    CustomerDTO.History getHistory(String cellPhone, String email);
+}
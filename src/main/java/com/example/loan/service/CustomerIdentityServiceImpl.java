@@ -0,0 +1,189 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.CustomerIdentity;
+import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.dto.CounselDTO;
+import com.example.loan.dto.CustomerDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.CounselRepository;
+import com.example.loan.repository.CustomerIdentityRepository;
+import lombok.RequiredArgsConstructor;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// 전화번호/이메일을 정규화해 HMAC digest 로 고객 키에 연결. 전화번호가 먼저 등록된 키를 우선
+@Service
+@RequiredArgsConstructor
+public class CustomerIdentityServiceImpl implements CustomerIdentityService {
+
+    private static final String PHONE = "phone:";
+    private static final String EMAIL = "email:";
+    private static final String ALGORITHM = "HmacSHA256";
+    // HMAC-SHA256 출력 길이 이상
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Value("${loan.identity.secret}")
+    private String secret;
+
+    private final CustomerIdentityRepository customerIdentityRepository;
+    private final CounselRepository counselRepository;
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ModelMapper modelMapper;
+
+    // 기본값을 두지 않음. 비밀키 없이 뜨면 digest 를 되돌릴 수 있으므로 기동 시 실패
+    @PostConstruct
+    void checkSecret() {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("loan.identity.secret (LOAN_IDENTITY_SECRET) must be at least "
+                    + MIN_SECRET_BYTES + " bytes");
+        }
+    }
+
+    @Override
+    public String resolve(String cellPhone, String email) {
+        return resolveAll(List.of(CustomerDTO.Contact.builder()
+                .cellPhone(cellPhone)
+                .email(email)
+                .build())).get(0);
+    }
+
+    @Override
+    public List<String> resolveAll(List<CustomerDTO.Contact> contacts) {
+        List<List<String>> digests = contacts.stream()
+                .map(contact -> digestsOf(contact.getCellPhone(), contact.getEmail()))
+                .toList();
+        if (digests.stream().allMatch(List::isEmpty)) {
+            return new ArrayList<>(Collections.nCopies(contacts.size(), null));
+        }
+
+        try {
+            return transactionTemplate.execute(status -> register(digests));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 번호가 동시에 처음 들어온 경우. 먼저 등록된 키로 다시 연결
+            return transactionTemplate.execute(status -> register(digests));
+        }
+    }
+
+    @Override
+    public CustomerDTO.History getHistory(String cellPhone, String email) {
+        List<String> digests = digestsOf(cellPhone, email);
+        String customerKey = digests.isEmpty() ? null : customerKeyOf(digests, findAll(digests));
+        if (customerKey == null) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "customer not found");
+        }
+
+        return CustomerDTO.History.builder()
+                .customerKey(customerKey)
+                .counsels(counselRepository.findAllByCustomerKeyOrderByCounselIdDesc(customerKey).stream()
+                        .map(counsel -> modelMapper.map(counsel, CounselDTO.Response.class))
+                        .toList())
+                .applications(applicationRepository.findAllByCustomerKeyOrderByApplicationIdDesc(customerKey).stream()
+                        .map(application -> modelMapper.map(application, ApplicationDTO.Response.class))
+                        .toList())
+                .build();
+    }
+
+    // 이미 연결된 키가 있으면 그 키로, 없으면 새 키로 아직 없는 digest 만 추가.
+    // 앞 건에서 등록한 digest 도 registered 에 넣어 두므로 같은 묶음 안의 같은 고객은 같은 키
+    private List<String> register(List<List<String>> digests) {
+        Map<String, String> registered = findAll(digests.stream().flatMap(List::stream).distinct().toList());
+
+        List<String> customerKeys = new ArrayList<>(digests.size());
+        List<CustomerIdentity> identities = new ArrayList<>();
+        for (List<String> contactDigests : digests) {
+            if (contactDigests.isEmpty()) {
+                customerKeys.add(null);
+                continue;
+            }
+
+            String customerKey = customerKeyOf(contactDigests, registered);
+            if (customerKey == null) {
+                customerKey = UUID.randomUUID().toString();
+            }
+            for (String digest : contactDigests) {
+                if (registered.putIfAbsent(digest, customerKey) == null) {
+                    identities.add(CustomerIdentity.builder()
+                            .identityDigest(digest)
+                            .customerKey(customerKey)
+                            .build());
+                }
+            }
+            customerKeys.add(customerKey);
+        }
+        if (!identities.isEmpty()) {
+            customerIdentityRepository.saveAllAndFlush(identities);
+        }
+        return customerKeys;
+    }
+
+    private Map<String, String> findAll(List<String> digests) {
+        return customerIdentityRepository.findAllByIdentityDigestIn(digests).stream()
+                .collect(Collectors.toMap(CustomerIdentity::getIdentityDigest, CustomerIdentity::getCustomerKey,
+                        (a, b) -> a, HashMap::new));
+    }
+
+    // digests 는 전화번호, 이메일 순
+    private String customerKeyOf(List<String> digests, Map<String, String> registered) {
+        return digests.stream()
+                .map(registered::get)
+                .filter(customerKey -> customerKey != null)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private List<String> digestsOf(String cellPhone, String email) {
+        List<String> digests = new ArrayList<>(2);
+        String phone = normalizePhone(cellPhone);
+        if (!phone.isEmpty()) {
+            digests.add(digest(PHONE + phone));
+        }
+        String mail = normalizeEmail(email);
+        if (!mail.isEmpty()) {
+            digests.add(digest(EMAIL + mail));
+        }
+        return digests;
+    }
+
+    // 숫자만 남기고 국가번호(82)는 0 으로
+    static String normalizePhone(String cellPhone) {
+        if (cellPhone == null) {
+            return "";
+        }
+        String digits = cellPhone.replaceAll("[^0-9]", "");
+        return digits.startsWith("82") && digits.length() > 10 ? "0" + digits.substring(2) : digits;
+    }
+
+    static String normalizeEmail(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String digest(String identity) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return HexFormat.of().formatHex(mac.doFinal(identity.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Counsel;
+import com.example.loan.repository.CounselRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 요청마다 한 행 insert
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loan.counsel.intake.mode", havingValue = "direct", matchIfMissing = true)
+public class DirectCounselIntake implements CounselIntake {
+
+    private final CounselRepository counselRepository;
+    private final CustomerIdentityService customerIdentityService;
+
+    @Override
+    public Counsel accept(Counsel counsel) {
+        counsel.setCustomerKey(customerIdentityService.resolve(counsel.getCellPhone(), counsel.getEmail()));
+        return counselRepository.save(counsel);
+    }
+}
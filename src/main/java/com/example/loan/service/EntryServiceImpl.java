@@ -1,7 +1,9 @@
 package com.example.loan.service;
 
 import com.example.loan.domain.Application;
+import com.example.loan.domain.BalanceLedger;
 import com.example.loan.domain.Entry;
+import com.example.loan.domain.Money;
 import com.example.loan.dto.BalanceDTO;
 import com.example.loan.dto.EntryDTO;
 import com.example.loan.exception.BaseException;
@@ -11,7 +13,9 @@ import com.example.loan.repository.EntryRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.util.EnumSet;
 import java.util.Optional;
 
 @Service
@@ -24,11 +28,10 @@ public class EntryServiceImpl implements EntryService{
     private final ModelMapper modelMapper;
 
     @Override
+    @Transactional
     public EntryDTO.Response create(Long applicationId, EntryDTO.Request request) {
-        // 계약 체결 여부 검증
-        if (!isContractedApplication(applicationId)) {
-            throw new BaseException(ResultType.SYSTEM_ERROR);
-        }
+        // 계약 체결 여부 검증 + 집행 상태로 전이
+        applicationRepository.transit(applicationId, Application.Status.DISBURSED);
 
         Entry entry = modelMapper.map(request, Entry.class);
         entry.setApplicationId(applicationId);
@@ -64,10 +67,10 @@ public class EntryServiceImpl implements EntryService{
         entryRepository.save(entry);
 
         Long applicationId = entry.getApplicationId();
-        balanceService.update(applicationId,
-                BalanceDTO.UpdateRequest.builder()
-                        .beforeEntryAmount(beforeEntryAmount)
-                        .afterEntryAmount(request.getEntryAmount())
+        balanceService.append(applicationId,
+                BalanceDTO.LedgerRequest.builder()
+                        .type(BalanceLedger.LedgerType.ENTRY_UPDATE)
+                        .amount(Money.of(request.getEntryAmount()).subtract(Money.of(beforeEntryAmount)))
                         .build()
         );
 
@@ -80,11 +83,16 @@ public class EntryServiceImpl implements EntryService{
     }
 
     @Override
+    @Transactional
     public void delete(Long entryId) {
         Entry entry = entryRepository.findById(entryId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
         });
 
+        // 상환 전 집행만 취소 가능. 계약 상태로 되돌려 다시 집행할 수 있게 함
+        applicationRepository.transit(entry.getApplicationId(), Application.Status.CONTRACTED,
+                EnumSet.of(Application.Status.DISBURSED));
+
         entry.setIsDeleted(true);
 
         entryRepository.save(entry);
@@ -92,20 +100,11 @@ public class EntryServiceImpl implements EntryService{
         BigDecimal beforeEntryAmount = entry.getEntryAmount();
 
         Long applicationId = entry.getApplicationId();
-        balanceService.update(applicationId,
-                BalanceDTO.UpdateRequest.builder()
-                        .beforeEntryAmount(beforeEntryAmount)
-                        .afterEntryAmount(BigDecimal.ZERO)
+        balanceService.append(applicationId,
+                BalanceDTO.LedgerRequest.builder()
+                        .type(BalanceLedger.LedgerType.ENTRY_DELETE)
+                        .amount(Money.of(beforeEntryAmount).negate())
                         .build()
         );
     }
-
-    private boolean isContractedApplication(Long applicationId){
-        Optional<Application> existed = applicationRepository.findById(applicationId);
-        if (existed.isEmpty()) {
-            return false;
-        }
-
-        return existed.get().getContractedAt() != null;
-    }
 }
@@ -0,0 +1,33 @@
+package com.example.loan.service;
+
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface ExportService {
+
+    void exportRepayments(LocalDate from, LocalDate to, Format format, boolean gzip, OutputStream outputStream);
+    void exportLedgers(LocalDate from, LocalDate to, Format format, boolean gzip, OutputStream outputStream);
+
+    @Getter
+    @RequiredArgsConstructor
+    enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        public static Format of(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BaseException(ResultType.SYSTEM_ERROR, "unsupported export format: " + value);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.BalanceLedger;
+import com.example.loan.domain.Repayment;
+import com.example.loan.dto.ExportDTO;
+import com.example.loan.repository.BalanceLedgerRepository;
+import com.example.loan.repository.RepaymentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private static final String REPAYMENT_CSV_HEADER = "repaymentId,applicationId,repaymentAmount,createdAt";
+    private static final String LEDGER_CSV_HEADER = "balanceLedgerId,applicationId,type,amount,createdAt";
+
+    private final RepaymentRepository repaymentRepository;
+    private final BalanceLedgerRepository balanceLedgerRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        // Stream 조회는 트랜잭션 안에서만 커서가 유지됨
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void exportRepayments(LocalDate from, LocalDate to, Format format, boolean gzip, OutputStream outputStream) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Repayment> repayments = repaymentRepository.streamAllByCreatedAt(startOf(from), endOf(to))) {
+                write(repayments.map(this::toRow), REPAYMENT_CSV_HEADER, row -> String.join(",",
+                        String.valueOf(row.getRepaymentId()),
+                        String.valueOf(row.getApplicationId()),
+                        row.getRepaymentAmount().toPlainString(),
+                        String.valueOf(row.getCreatedAt())), format, gzip, outputStream);
+            }
+        });
+    }
+
+    @Override
+    public void exportLedgers(LocalDate from, LocalDate to, Format format, boolean gzip, OutputStream outputStream) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<BalanceLedger> ledgers = balanceLedgerRepository.streamAllByCreatedAt(startOf(from), endOf(to))) {
+                write(ledgers.map(this::toRow), LEDGER_CSV_HEADER, row -> String.join(",",
+                        String.valueOf(row.getBalanceLedgerId()),
+                        String.valueOf(row.getApplicationId()),
+                        String.valueOf(row.getType()),
+                        row.getAmount().toBigDecimal().toPlainString(),
+                        String.valueOf(row.getCreatedAt())), format, gzip, outputStream);
+            }
+        });
+    }
+
+    private <T> void write(Stream<T> rows, String csvHeader, Function<T, String> toCsv,
+                           Format format, boolean gzip, OutputStream outputStream) {
+        try {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+
+            if (format == Format.CSV) {
+                writer.write(csvHeader);
+                writer.write('\n');
+                rows.forEach(row -> writeLine(writer, toCsv.apply(row)));
+                writer.flush();
+            } else {
+                // 한 줄에 한 건씩 JSON 으로 기록. 응답 스트림은 닫지 않도록 close 대신 flush
+                SequenceWriter sequenceWriter = objectMapper.writer().withRootValueSeparator("\n").writeValues(writer);
+                rows.forEach(row -> writeValue(sequenceWriter, row));
+                sequenceWriter.flush();
+                writer.write('\n');
+                writer.flush();
+            }
+
+            if (target instanceof GZIPOutputStream gzipOutputStream) {
+                gzipOutputStream.finish();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeValue(SequenceWriter sequenceWriter, Object row) {
+        try {
+            sequenceWriter.write(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 기록이 끝난 엔티티는 영속성 컨텍스트에서 분리해 메모리 사용량을 일정하게 유지
+    private ExportDTO.RepaymentRow toRow(Repayment repayment) {
+        entityManager.detach(repayment);
+        return ExportDTO.RepaymentRow.builder()
+                .repaymentId(repayment.getRepaymentId())
+                .applicationId(repayment.getApplicationId())
+                .repaymentAmount(repayment.getRepaymentAmount())
+                .createdAt(repayment.getCreatedAt())
+                .build();
+    }
+
+    private ExportDTO.LedgerRow toRow(BalanceLedger ledger) {
+        entityManager.detach(ledger);
+        return ExportDTO.LedgerRow.builder()
+                .balanceLedgerId(ledger.getBalanceLedgerId())
+                .applicationId(ledger.getApplicationId())
+                .type(ledger.getType())
+                .amount(ledger.getAmount())
+                .createdAt(ledger.getCreatedAt())
+                .build();
+    }
+
+    private LocalDateTime startOf(LocalDate from) {
+        return (from == null ? LocalDate.EPOCH : from).atStartOfDay();
+    }
+
+    // 종료일 당일까지 포함
+    private LocalDateTime endOf(LocalDate to) {
+        return (to == null ? LocalDate.now() : to).plusDays(1).atStartOfDay();
+    }
+}
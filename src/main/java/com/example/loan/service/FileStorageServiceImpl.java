@@ -2,7 +2,6 @@ package com.example.loan.service;
 
 import com.example.loan.exception.BaseException;
 import com.example.loan.exception.ResultType;
-import com.example.loan.repository.ApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -23,7 +22,7 @@ public class FileStorageServiceImpl implements FileStorageService{
     @Value("${spring.servlet.multipart.location}")
     private String uploadPath;
 
-    private final ApplicationRepository applicationRepository;
+    private final ApplicationIdRegistry applicationIdRegistry;
 
     @Override
     public void save(Long applicationId, MultipartFile file) {
@@ -87,6 +86,6 @@ public class FileStorageServiceImpl implements FileStorageService{
     }
 
     private boolean isPresentApplication(Long applicationId){
-        return applicationRepository.findById(applicationId).isPresent();
+        return applicationIdRegistry.exists(applicationId);
     }
 }
@@ -0,0 +1,232 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.JudgmentRuleDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+// 자동 심사 룰셋을 구간 배열(decision table)로 컴파일해 두고 평가. 평가 중에는 BigDecimal/컬렉션을 만들지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JudgmentRuleEngine {
+
+    private static final int BASIS = 10000;
+
+    @Value("${loan.judgment.rules-location:classpath:judgment-rules.json}")
+    private String rulesLocation;
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    private volatile CompiledRules rules;
+    private volatile long lastModified;
+    // 적재에 실패한 파일의 수정 시각. 파일이 다시 바뀔 때까지 재시도하지 않음
+    private volatile long failedModified;
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    // 룰 파일이 바뀌었으면 다시 적재. 잘못된 룰이면 기존 룰 유지
+    @Scheduled(fixedDelayString = "${loan.judgment.rules-reload-delay:10000}")
+    public void reloadIfModified() {
+        long modified = lastModifiedOf(resourceLoader.getResource(rulesLocation));
+        if (modified == lastModified || modified == failedModified) {
+            return;
+        }
+
+        try {
+            reload();
+        } catch (BaseException e) {
+            failedModified = modified;
+            log.error("judgment rules reload failed. keep version={}, reason={}", rules.version(), e.getMessage());
+        }
+    }
+
+    public synchronized String reload() {
+        Resource resource = resourceLoader.getResource(rulesLocation);
+        long modified = lastModifiedOf(resource);
+
+        JudgmentRuleDTO.RuleSet ruleSet;
+        try (InputStream inputStream = resource.getInputStream()) {
+            ruleSet = objectMapper.readValue(inputStream, JudgmentRuleDTO.RuleSet.class);
+        } catch (IOException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "failed to read judgment rules: " + e.getMessage());
+        }
+
+        // 범위를 넘는 값(intValueExact/longValueExact) 등 컴파일 오류도 잘못된 룰로 처리해 기존 룰 유지
+        try {
+            rules = compile(ruleSet);
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "invalid judgment rules: " + e.getMessage());
+        }
+        lastModified = modified;
+        log.info("judgment rules loaded. version={}, location={}", rules.version(), rulesLocation);
+        return rules.version();
+    }
+
+    public String version() {
+        return rules.version();
+    }
+
+    // otherApplications: 같은 전화번호의 다른 신청 건수, annualIncome 이 0 이하면 소득 정보 없음
+    public Decision evaluate(long hopeAmount, int otherApplications, long annualIncome, long existingDebt) {
+        CompiledRules current = rules;
+
+        int band = bandOf(current.hopeUpTo(), hopeAmount);
+        if (current.hopeReject()[band]) {
+            return Decision.rejected(current.version());
+        }
+        long ratio = current.hopeRatio()[band];
+        int rate = current.hopeRate()[band];
+
+        if (current.repeatThreshold() > 0 && otherApplications >= current.repeatThreshold()) {
+            ratio = ratio * current.repeatRatio() / BASIS;
+            rate += current.repeatSurcharge();
+        }
+
+        if (annualIncome <= 0) {
+            ratio = ratio * current.missingIncomeRatio() / BASIS;
+            rate += current.missingIncomeSurcharge();
+        } else {
+            int dtiBand = bandOf(current.dtiUpTo(), Math.max(existingDebt, 0) * BASIS / annualIncome);
+            if (current.dtiReject()[dtiBand]) {
+                return Decision.rejected(current.version());
+            }
+            ratio = ratio * current.dtiRatio()[dtiBand] / BASIS;
+            rate += current.dtiSurcharge()[dtiBand];
+        }
+
+        // 승인 금액은 금액 단위로 절사, 금리는 상한 적용
+        long approvalAmount = hopeAmount * ratio / BASIS / current.amountUnit() * current.amountUnit();
+        if (approvalAmount <= 0) {
+            return Decision.rejected(current.version());
+        }
+        return new Decision(true, approvalAmount, Math.min(rate, current.maxInterestRate()), current.version());
+    }
+
+    // upTo 이하인 첫 구간. 컴파일 시 마지막 구간 상한을 Long.MAX_VALUE 로 채우므로 항상 구간이 있음
+    private int bandOf(long[] upTo, long value) {
+        int index = Arrays.binarySearch(upTo, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private long lastModifiedOf(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // jar 안의 classpath 리소스는 수정 시각이 없음
+            return 0;
+        }
+    }
+
+    private CompiledRules compile(JudgmentRuleDTO.RuleSet ruleSet) {
+        if (ruleSet.getVersion() == null || ruleSet.getAmountUnit() == null || ruleSet.getMaxInterestRate() == null) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "judgment rules require version, amountUnit, maxInterestRate");
+        }
+
+        Bands hope = compileBands(ruleSet.getHopeAmountBands(), BigDecimal.ONE, true);
+        Bands dti = compileBands(ruleSet.getDebtToIncomeBands(), BigDecimal.valueOf(BASIS), false);
+
+        JudgmentRuleDTO.RepeatApplicant repeat = ruleSet.getRepeatApplicant();
+        JudgmentRuleDTO.Band missingIncome = ruleSet.getMissingIncome();
+
+        return new CompiledRules(
+                ruleSet.getVersion(),
+                Math.max(1, ruleSet.getAmountUnit().longValue()),
+                basisPointOf(ruleSet.getMaxInterestRate()),
+                hope.upTo(), hope.ratio(), hope.rate(), hope.reject(),
+                repeat == null || repeat.getThreshold() == null ? 0 : repeat.getThreshold(),
+                repeat == null ? BASIS : basisPointOf(repeat.getApprovalRatio(), BASIS),
+                repeat == null ? 0 : basisPointOf(repeat.getRateSurcharge(), 0),
+                dti.upTo(), dti.ratio(), dti.rate(), dti.reject(),
+                missingIncome == null ? BASIS : basisPointOf(missingIncome.getApprovalRatio(), BASIS),
+                missingIncome == null ? 0 : basisPointOf(missingIncome.getRateSurcharge(), 0));
+    }
+
+    // 구간 상한 오름차순 검증 후 병렬 배열로 변환. 상한 없는 마지막 구간이 없으면 초과 구간은 거절
+    private Bands compileBands(List<JudgmentRuleDTO.Band> bands, BigDecimal upToScale, boolean baseRate) {
+        if (bands == null || bands.isEmpty()) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "judgment rules require bands");
+        }
+
+        boolean open = bands.get(bands.size() - 1).getUpTo() == null;
+        int size = open ? bands.size() : bands.size() + 1;
+        long[] upTo = new long[size];
+        int[] ratio = new int[size];
+        int[] rate = new int[size];
+        boolean[] reject = new boolean[size];
+
+        for (int i = 0; i < bands.size(); i++) {
+            JudgmentRuleDTO.Band band = bands.get(i);
+            if (band.getUpTo() == null && i != bands.size() - 1) {
+                throw new BaseException(ResultType.SYSTEM_ERROR, "only the last band can be unbounded");
+            }
+
+            upTo[i] = band.getUpTo() == null ? Long.MAX_VALUE
+                    : band.getUpTo().multiply(upToScale).setScale(0, RoundingMode.DOWN).longValueExact();
+            if (i > 0 && upTo[i] <= upTo[i - 1]) {
+                throw new BaseException(ResultType.SYSTEM_ERROR, "bands must be in ascending order");
+            }
+
+            reject[i] = Boolean.TRUE.equals(band.getReject());
+            ratio[i] = basisPointOf(band.getApprovalRatio(), reject[i] ? 0 : BASIS);
+            rate[i] = basisPointOf(baseRate ? band.getInterestRate() : band.getRateSurcharge(), 0);
+        }
+        if (!open) {
+            upTo[size - 1] = Long.MAX_VALUE;
+            reject[size - 1] = true;
+        }
+        return new Bands(upTo, ratio, rate, reject);
+    }
+
+    private int basisPointOf(BigDecimal value, int defaultValue) {
+        return value == null ? defaultValue : basisPointOf(value);
+    }
+
+    private int basisPointOf(BigDecimal value) {
+        return value.movePointRight(4).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    // 금리는 basis point (1 = 0.01%)
+    public record Decision(boolean approved, long approvalAmount, int interestRateBasisPoint, String ruleVersion) {
+
+        static Decision rejected(String ruleVersion) {
+            return new Decision(false, 0, 0, ruleVersion);
+        }
+
+        public BigDecimal getApprovalAmount() {
+            return BigDecimal.valueOf(approvalAmount);
+        }
+
+        public BigDecimal getApprovalInterestRate() {
+            return approved ? BigDecimal.valueOf(interestRateBasisPoint, 4) : null;
+        }
+    }
+
+    private record Bands(long[] upTo, int[] ratio, int[] rate, boolean[] reject) {
+    }
+
+    private record CompiledRules(String version, long amountUnit, int maxInterestRate,
+                                 long[] hopeUpTo, int[] hopeRatio, int[] hopeRate, boolean[] hopeReject,
+                                 int repeatThreshold, int repeatRatio, int repeatSurcharge,
+                                 long[] dtiUpTo, int[] dtiRatio, int[] dtiSurcharge, boolean[] dtiReject,
+                                 int missingIncomeRatio, int missingIncomeSurcharge) {
+    }
+}
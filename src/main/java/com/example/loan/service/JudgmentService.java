@@ -2,6 +2,7 @@ package com.example.loan.service;
 
 import com.example.loan.dto.ApplicationDTO;
 import com.example.loan.dto.JudgmentDTO;
+import java.util.List;
 
 public interface JudgmentService {
     JudgmentDTO.Response create(JudgmentDTO.Request request);
@@ -10,4 +11,5 @@ public interface JudgmentService {
     JudgmentDTO.Response update(Long judgmentId, JudgmentDTO.Request request);
     void delete(Long judgmentId);
     ApplicationDTO.GrantAmount grant(Long judgmentId);
+    List<JudgmentDTO.GrantResponse> grantAll(List<Long> judgmentIds);
 }
@@ -1,34 +1,55 @@
 package com.example.loan.service;
 
+import com.example.loan.config.CacheConfig;
 import com.example.loan.domain.Application;
 import com.example.loan.domain.Judgment;
 import com.example.loan.dto.ApplicationDTO;
 import com.example.loan.dto.JudgmentDTO;
+import com.example.loan.dto.ResultObject;
 import com.example.loan.exception.BaseException;
 import com.example.loan.exception.ResultType;
 import com.example.loan.repository.ApplicationRepository;
 import com.example.loan.repository.JudgmentRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JudgmentServiceImpl implements JudgmentService{
 
+    private static final int GRANT_CHUNK_SIZE = 500;
+
     private final JudgmentRepository judgmentRepository;
     private final ApplicationRepository applicationRepository;
+    private final ApplicationIdRegistry applicationIdRegistry;
+    private final ScheduleService scheduleService;
+    private final TransactionTemplate transactionTemplate;
     private final ModelMapper modelMapper;
 
     @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.JUDGMENT_OF_APPLICATION, key = "#request.applicationId")
     public JudgmentDTO.Response create(JudgmentDTO.Request request) {
-        // 신청 정보 검증
+        // 신청 정보 검증 + 심사 상태로 전이
         Long applicationId = request.getApplicationId();
-        if (!isPresentApplication(applicationId)){
-            throw new BaseException(ResultType.SYSTEM_ERROR);
-        }
+        applicationRepository.transit(applicationId, Application.Status.JUDGED);
 
         // request dto -> entity -> save
         Judgment judgment = modelMapper.map(request, Judgment.class);
@@ -48,6 +69,7 @@ public class JudgmentServiceImpl implements JudgmentService{
     }
 
     @Override
+    @Cacheable(value = CacheConfig.JUDGMENT_OF_APPLICATION, key = "#applicationId")
     public JudgmentDTO.Response getJudgmentOfApplication(Long applicationId) {
         if (!isPresentApplication(applicationId)){
             throw new BaseException(ResultType.SYSTEM_ERROR);
@@ -60,6 +82,7 @@ public class JudgmentServiceImpl implements JudgmentService{
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.JUDGMENT_OF_APPLICATION, key = "#result.applicationId")
     public JudgmentDTO.Response update(Long judgmentId, JudgmentDTO.Request request) {
         Judgment judgment = judgmentRepository.findById(judgmentId).orElseThrow(() -> {
            throw new BaseException(ResultType.SYSTEM_ERROR);
@@ -73,36 +96,150 @@ public class JudgmentServiceImpl implements JudgmentService{
     }
 
     @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.JUDGMENT_OF_APPLICATION, allEntries = true)
     public void delete(Long judgmentId) {
         Judgment judgment = judgmentRepository.findById(judgmentId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
         });
 
+        // 계약 전까지만 심사 삭제 가능. 약관 동의 상태로 되돌림
+        applicationRepository.transit(judgment.getApplicationId(), Application.Status.TERMS_ACCEPTED,
+                EnumSet.of(Application.Status.JUDGED, Application.Status.GRANTED));
+
         judgment.setIsDeleted(true);
 
         judgmentRepository.save(judgment);
     }
 
     @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.APPLICATION, key = "#result.applicationId")
     public ApplicationDTO.GrantAmount grant(Long judgmentId) {
         Judgment judgment = judgmentRepository.findById(judgmentId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
         });
 
+        if (Boolean.TRUE.equals(judgment.getRejected())) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "rejected judgment");
+        }
+
         Long applicationId = judgment.getApplicationId();
         Application application = applicationRepository.findById(applicationId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
         });
 
+        // 심사 완료 상태에서만 한도 부여
+        applicationRepository.transit(applicationId, Application.Status.GRANTED);
+        application.setStatus(Application.Status.GRANTED);
+
         BigDecimal approvalAmount = judgment.getApprovalAmount();
         application.setApprovalAmount(approvalAmount);
 
         applicationRepository.save(application);
 
+        // 승인 금액이 바뀌었으므로 상환 스케줄 캐시 제거
+        scheduleService.evict(applicationId);
+
         return modelMapper.map(application, ApplicationDTO.GrantAmount.class);
     }
 
+    @Override
+    public List<JudgmentDTO.GrantResponse> grantAll(List<Long> judgmentIds) {
+        // 요청 순서대로 결과를 돌려주고, 중복 ID 는 첫 번째만 처리
+        List<JudgmentDTO.GrantResponse> results = new ArrayList<>(judgmentIds.size());
+        Set<Long> requested = new HashSet<>();
+        for (Long judgmentId : judgmentIds) {
+            JudgmentDTO.GrantResponse result = JudgmentDTO.GrantResponse.builder().judgmentId(judgmentId).build();
+            if (judgmentId == null || !requested.add(judgmentId)) {
+                result.setResult(new ResultObject(ResultType.SYSTEM_ERROR, "duplicated judgment"));
+            }
+            results.add(result);
+        }
+
+        for (int from = 0; from < results.size(); from += GRANT_CHUNK_SIZE) {
+            grantChunk(results.subList(from, Math.min(results.size(), from + GRANT_CHUNK_SIZE)));
+        }
+        return results;
+    }
+
+    private void grantChunk(List<JudgmentDTO.GrantResponse> rows) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveGrantChunk(rows));
+        } catch (RuntimeException e) {
+            log.error(e.getMessage(), e);
+            // chunk 트랜잭션이 롤백되면 성공 처리했던 행도 실패로 돌린다.
+            rows.stream()
+                    .filter(row -> row.getResult() == null || ResultObject.getSuccess().getCode().equals(row.getResult().getCode()))
+                    .forEach(row -> row.setResult(new ResultObject(ResultType.SYSTEM_ERROR)));
+        }
+    }
+
+    private void saveGrantChunk(List<JudgmentDTO.GrantResponse> rows) {
+        // 1. 심사와 신청을 chunk 단위 한 번씩 조회
+        List<Long> judgmentIds = rows.stream()
+                .filter(row -> row.getResult() == null)
+                .map(JudgmentDTO.GrantResponse::getJudgmentId)
+                .toList();
+        Map<Long, Judgment> judgments = judgmentRepository.findAllById(judgmentIds).stream()
+                .collect(Collectors.toMap(Judgment::getJudgmentId, Function.identity()));
+        Map<Long, Application> applications = applicationRepository.findAllById(judgments.values().stream()
+                        .map(Judgment::getApplicationId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Application::getApplicationId, Function.identity()));
+
+        // 2. 거절되지 않은 심사 중 심사 완료 상태인 신청만, 같은 신청의 심사는 하나만
+        List<JudgmentDTO.GrantResponse> accepted = new ArrayList<>();
+        Set<Long> grantedApplicationIds = new HashSet<>();
+        for (JudgmentDTO.GrantResponse row : rows) {
+            if (row.getResult() != null) {
+                continue;
+            }
+
+            Judgment judgment = judgments.get(row.getJudgmentId());
+            if (judgment == null) {
+                row.setResult(new ResultObject(ResultType.SYSTEM_ERROR, "judgment not found"));
+                continue;
+            }
+
+            row.setApplicationId(judgment.getApplicationId());
+            row.setApprovalAmount(judgment.getApprovalAmount());
+
+            if (Boolean.TRUE.equals(judgment.getRejected())) {
+                row.setResult(new ResultObject(ResultType.SYSTEM_ERROR, "rejected judgment"));
+                continue;
+            }
+
+            Application application = applications.get(judgment.getApplicationId());
+            if (application == null || !Application.Status.GRANTED.getPredecessors().contains(application.getStatus())) {
+                row.setResult(new ResultObject(ResultType.SYSTEM_ERROR, "invalid application status"));
+                continue;
+            }
+            if (!grantedApplicationIds.add(judgment.getApplicationId())) {
+                row.setResult(new ResultObject(ResultType.SYSTEM_ERROR, "duplicated application"));
+                continue;
+            }
+            accepted.add(row);
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 3. 승인 금액 복사 + 상태 전이를 한 번의 update 로. 그 사이 상태가 바뀐 신청이 있으면 chunk 전체 롤백
+        int updated = applicationRepository.grantAll(
+                accepted.stream().map(JudgmentDTO.GrantResponse::getJudgmentId).toList(),
+                grantedApplicationIds, Application.Status.GRANTED.getPredecessors());
+        if (updated != accepted.size()) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "application status changed while granting");
+        }
+
+        // 승인 금액이 바뀌었으므로 상환 스케줄 캐시 제거
+        grantedApplicationIds.forEach(scheduleService::evict);
+        accepted.forEach(row -> row.setResult(ResultObject.getSuccess()));
+    }
+
     private boolean isPresentApplication(Long applicationId){
-        return applicationRepository.findById(applicationId).isPresent();
+        return applicationIdRegistry.exists(applicationId);
     }
 }
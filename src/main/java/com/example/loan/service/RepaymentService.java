@@ -1,11 +1,16 @@
 package com.example.loan.service;
 
+import com.example.loan.dto.PageDTO;
 import com.example.loan.dto.RepaymentDTO;
+import org.springframework.http.MediaType;
+import java.io.InputStream;
 import java.util.List;
 
 public interface RepaymentService {
     RepaymentDTO.Response create(Long applicationId, RepaymentDTO.Request request);
     List<RepaymentDTO.ListResponse> get(Long applicationId);
+    PageDTO<RepaymentDTO.History> get(Long applicationId, Long cursor, int size);
     RepaymentDTO.UpdateResponse update(Long repaymentId, RepaymentDTO.Request request);
     void delete(Long repaymentId);
+    List<RepaymentDTO.BulkResponse> createAll(InputStream inputStream, MediaType contentType);
 }
@@ -1,38 +1,67 @@
 package com.example.loan.service;
 
 import com.example.loan.domain.Application;
-import com.example.loan.domain.Entry;
+import com.example.loan.domain.BalanceLedger;
+import com.example.loan.domain.Money;
 import com.example.loan.domain.Repayment;
 import com.example.loan.dto.BalanceDTO;
+import com.example.loan.dto.PageDTO;
 import com.example.loan.dto.RepaymentDTO;
+import com.example.loan.dto.ResultObject;
 import com.example.loan.exception.BaseException;
 import com.example.loan.exception.ResultType;
 import com.example.loan.repository.ApplicationRepository;
-import com.example.loan.repository.EntryRepository;
 import com.example.loan.repository.RepaymentRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RepaymentServiceImpl implements RepaymentService{
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final RepaymentRepository repaymentRepository;
     private final ApplicationRepository applicationRepository;
-    private final EntryRepository entryRepository;
     private final BalanceService balanceService;
     private final ModelMapper modelMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
+    // 상환, 원장, 상태 변경을 한 트랜잭션으로. 하나만 커밋되면 스냅샷 + 원장 잔고로 복구할 수 없음
     @Override
+    @Transactional
     public RepaymentDTO.Response create(Long applicationId, RepaymentDTO.Request request) {
-        // 1. 계약을 완료한 신청 정보
-        // 2. 집행이 되어있어야 함.
-        if (!isRepayableApplication(applicationId)){
+        // 계약 + 집행이 완료된 상태여야 함.
+        if (!applicationRepository.existsByApplicationIdAndStatus(applicationId, Application.Status.DISBURSED)){
             throw new BaseException(ResultType.SYSTEM_ERROR);
         }
 
@@ -42,14 +71,15 @@ public class RepaymentServiceImpl implements RepaymentService{
         repaymentRepository.save(repayment);
         
         // 잔고.
-        BalanceDTO.Response updatedBalance = balanceService.repaymentUpdate(applicationId,
-                BalanceDTO.RepaymentRequest.builder()
-                        .repaymentAmount(request.getRepaymentAmount())
-                        .type(BalanceDTO.RepaymentRequest.RepaymentType.REMOVE)
+        BalanceDTO.Response updatedBalance = balanceService.append(applicationId,
+                BalanceDTO.LedgerRequest.builder()
+                        .type(BalanceLedger.LedgerType.REPAYMENT_CREATE)
+                        .amount(Money.of(request.getRepaymentAmount()).negate())
                         .build());
+        syncRepaidStatus(applicationId, updatedBalance.getBalance());
 
         RepaymentDTO.Response response = modelMapper.map(repayment, RepaymentDTO.Response.class);
-        response.setBalance(updatedBalance.getBalance());
+        response.setBalance(updatedBalance.getBalance().toBigDecimal());
         return response;
     }
 
@@ -60,6 +90,25 @@ public class RepaymentServiceImpl implements RepaymentService{
     }
 
     @Override
+    public PageDTO<RepaymentDTO.History> get(Long applicationId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<RepaymentDTO.History> histories = repaymentRepository.findHistory(applicationId,
+                cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = histories.size() > pageSize;
+        List<RepaymentDTO.History> content = hasNext ? histories.subList(0, pageSize) : histories;
+
+        return PageDTO.<RepaymentDTO.History>builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getRepaymentId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    @Transactional
     public RepaymentDTO.UpdateResponse update(Long repaymentId, RepaymentDTO.Request request) {
         Repayment repayment = repaymentRepository.findById(repaymentId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
@@ -67,32 +116,31 @@ public class RepaymentServiceImpl implements RepaymentService{
 
         Long applicationId = repayment.getApplicationId();
         BigDecimal beforeRepaymentAmount = repayment.getRepaymentAmount();
+        repayment.setRepaymentAmount(request.getRepaymentAmount());
 
-        balanceService.repaymentUpdate(applicationId,
-                BalanceDTO.RepaymentRequest.builder()
-                        .repaymentAmount(beforeRepaymentAmount)
-                        .type(BalanceDTO.RepaymentRequest.RepaymentType.ADD)
-                        .build()
-        );
+        repaymentRepository.save(repayment);
 
-        BalanceDTO.Response updatedBalance = balanceService.repaymentUpdate(applicationId,
-                BalanceDTO.RepaymentRequest.builder()
-                        .repaymentAmount(request.getRepaymentAmount())
-                        .type(BalanceDTO.RepaymentRequest.RepaymentType.REMOVE)
+        // 기존 상환금 롤백 + 신규 상환금 차감을 한 건의 원장으로 기록
+        BalanceDTO.Response updatedBalance = balanceService.append(applicationId,
+                BalanceDTO.LedgerRequest.builder()
+                        .type(BalanceLedger.LedgerType.REPAYMENT_UPDATE)
+                        .amount(Money.of(beforeRepaymentAmount).subtract(Money.of(request.getRepaymentAmount())))
                         .build()
         );
+        syncRepaidStatus(applicationId, updatedBalance.getBalance());
 
         return RepaymentDTO.UpdateResponse.builder()
                 .applicationId(applicationId)
                 .beforeRepaymentAmount(beforeRepaymentAmount)
                 .afterRepaymentAmount(request.getRepaymentAmount())
-                .balance(updatedBalance.getBalance())
+                .balance(updatedBalance.getBalance().toBigDecimal())
                 .createdAt(repayment.getCreatedAt())
                 .updatedAt(repayment.getUpdatedAt())
                 .build();
     }
 
     @Override
+    @Transactional
     public void delete(Long repaymentId) {
         Repayment repayment = repaymentRepository.findById(repaymentId).orElseThrow(() -> {
             throw new BaseException(ResultType.SYSTEM_ERROR);
@@ -101,27 +149,181 @@ public class RepaymentServiceImpl implements RepaymentService{
         Long applicationId = repayment.getApplicationId();
         BigDecimal removeRepaymentAmount = repayment.getRepaymentAmount();
 
-        balanceService.repaymentUpdate(applicationId,
-                BalanceDTO.RepaymentRequest.builder()
-                        .repaymentAmount(removeRepaymentAmount)
-                        .type(BalanceDTO.RepaymentRequest.RepaymentType.ADD)
+        BalanceDTO.Response updatedBalance = balanceService.append(applicationId,
+                BalanceDTO.LedgerRequest.builder()
+                        .type(BalanceLedger.LedgerType.REPAYMENT_DELETE)
+                        .amount(Money.of(removeRepaymentAmount))
                         .build());
+        syncRepaidStatus(applicationId, updatedBalance.getBalance());
 
         repayment.setIsDeleted(true);
         repaymentRepository.save(repayment);
     }
 
-    private boolean isRepayableApplication(Long applicationId){
-        Optional<Application> existedApplication = applicationRepository.findById(applicationId);
-        if (existedApplication.isEmpty()){
-            return false;
+    @Override
+    public List<RepaymentDTO.BulkResponse> createAll(InputStream inputStream, MediaType contentType) {
+        List<RepaymentDTO.BulkResponse> results = new ArrayList<>();
+        List<RepaymentDTO.BulkResponse> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+
+        // 요청 본문을 스트림으로 읽으면서 chunk 단위로 저장
+        Consumer<RepaymentDTO.BulkResponse> collector = row -> {
+            chunk.add(row);
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                results.addAll(createChunk(chunk));
+                chunk.clear();
+            }
+        };
+
+        try {
+            if (TEXT_CSV.isCompatibleWith(contentType)) {
+                readCsv(inputStream, collector);
+            } else {
+                readJson(inputStream, collector);
+            }
+        } catch (IOException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getMessage());
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(createChunk(chunk));
+        }
+        return results;
+    }
+
+    private List<RepaymentDTO.BulkResponse> createChunk(List<RepaymentDTO.BulkResponse> rows) {
+        List<RepaymentDTO.BulkResponse> copied = new ArrayList<>(rows);
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveChunk(copied));
+        } catch (RuntimeException e) {
+            log.error(e.getMessage(), e);
+            // chunk 트랜잭션이 롤백되면 저장 처리했던 행도 실패로 돌린다.
+            copied.stream()
+                    .filter(row -> row.getRepaymentId() != null || row.getResult() == null)
+                    .forEach(row -> {
+                        row.setRepaymentId(null);
+                        row.setResult(new ResultObject(ResultType.SYSTEM_ERROR));
+                    });
+        }
+        return copied;
+    }
+
+    private void saveChunk(List<RepaymentDTO.BulkResponse> rows) {
+        // 1. 계약 + 집행 여부를 chunk 단위 한 번의 쿼리로 검증
+        Set<Long> applicationIds = rows.stream()
+                .filter(row -> row.getResult() == null)
+                .map(RepaymentDTO.BulkResponse::getApplicationId)
+                .collect(Collectors.toSet());
+        Set<Long> repayableIds = applicationIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(applicationRepository.findRepayableApplicationIds(applicationIds));
+
+        List<RepaymentDTO.BulkResponse> accepted = new ArrayList<>();
+        List<Repayment> repayments = new ArrayList<>();
+        Map<Long, Money> balanceAmounts = new HashMap<>();
+        for (RepaymentDTO.BulkResponse row : rows) {
+            if (row.getResult() != null) {
+                continue;
+            }
+            if (!repayableIds.contains(row.getApplicationId())) {
+                row.setResult(new ResultObject(ResultType.SYSTEM_ERROR, "not repayable application"));
+                continue;
+            }
+
+            accepted.add(row);
+            repayments.add(Repayment.builder()
+                    .applicationId(row.getApplicationId())
+                    .repaymentAmount(row.getRepaymentAmount())
+                    .build());
+            balanceAmounts.merge(row.getApplicationId(), Money.of(row.getRepaymentAmount()).negate(), Money::add);
         }
 
-        if (existedApplication.get().getContractedAt() == null){
-            return false;
+        // 2. 상환 batch insert, 3. 신청별 순차감액을 원장에 한 건씩
+        repaymentRepository.saveAll(repayments);
+        balanceService.appendAll(BalanceLedger.LedgerType.REPAYMENT_CREATE, balanceAmounts);
+        if (!balanceAmounts.isEmpty()) {
+            balanceService.getAll(balanceAmounts.keySet()).forEach(this::syncRepaidStatus);
         }
 
-        Optional<Entry> existedEntry = entryRepository.findByApplicationId(applicationId);
-        return existedEntry.isPresent();
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).setRepaymentId(repayments.get(i).getRepaymentId());
+            accepted.get(i).setResult(ResultObject.getSuccess());
+        }
+    }
+
+    private void readJson(InputStream inputStream, Consumer<RepaymentDTO.BulkResponse> collector) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BaseException(ResultType.SYSTEM_ERROR, "json array expected");
+            }
+
+            long rowNumber = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                rowNumber++;
+                // 원소 하나만 tree 로 읽고 값 변환 실패는 해당 행만 실패 처리 (CSV 와 동일). 문법 오류는 이어 읽을 수 없어 전체 실패
+                try {
+                    if (token != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        throw new IllegalArgumentException("object expected");
+                    }
+                    RepaymentDTO.BulkRequest request = objectMapper.treeToValue(objectMapper.readTree(parser), RepaymentDTO.BulkRequest.class);
+                    collector.accept(toBulkRow(rowNumber, request.getApplicationId(), request.getRepaymentAmount()));
+                } catch (JsonMappingException | IllegalArgumentException e) {
+                    collector.accept(RepaymentDTO.BulkResponse.builder()
+                            .rowNumber(rowNumber)
+                            .result(new ResultObject(ResultType.SYSTEM_ERROR, "malformed row"))
+                            .build());
+                }
+            }
+        }
+    }
+
+    // applicationId,repaymentAmount (첫 줄 헤더는 생략 가능)
+    private void readCsv(InputStream inputStream, Consumer<RepaymentDTO.BulkResponse> collector) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            long rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (rowNumber == 0 && line.trim().toLowerCase().startsWith("applicationid")) {
+                    continue;
+                }
+
+                rowNumber++;
+                String[] columns = line.split(",", -1);
+                try {
+                    collector.accept(toBulkRow(rowNumber, Long.valueOf(columns[0].trim()), new BigDecimal(columns[1].trim())));
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                    collector.accept(RepaymentDTO.BulkResponse.builder()
+                            .rowNumber(rowNumber)
+                            .result(new ResultObject(ResultType.SYSTEM_ERROR, "malformed row"))
+                            .build());
+                }
+            }
+        }
+    }
+
+    private RepaymentDTO.BulkResponse toBulkRow(long rowNumber, Long applicationId, BigDecimal repaymentAmount) {
+        RepaymentDTO.BulkResponse row = RepaymentDTO.BulkResponse.builder()
+                .rowNumber(rowNumber)
+                .applicationId(applicationId)
+                .repaymentAmount(repaymentAmount)
+                .build();
+
+        if (applicationId == null || repaymentAmount == null || repaymentAmount.signum() <= 0) {
+            row.setResult(new ResultObject(ResultType.SYSTEM_ERROR, "invalid repayment"));
+        }
+        return row;
+    }
+
+    // 잔고가 0 이하가 되면 상환 완료, 수정/삭제로 잔고가 다시 생기면 집행 상태로 되돌림
+    private void syncRepaidStatus(Long applicationId, Money balance) {
+        if (balance.signum() <= 0) {
+            applicationRepository.updateStatus(applicationId, Application.Status.REPAID, EnumSet.of(Application.Status.DISBURSED));
+        } else {
+            applicationRepository.updateStatus(applicationId, Application.Status.DISBURSED, EnumSet.of(Application.Status.REPAID));
+        }
     }
 }
@@ -0,0 +1,66 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.AcceptTerms;
+import com.example.loan.domain.Terms;
+import com.example.loan.dto.SnapshotDTO;
+import com.example.loan.repository.AcceptTermsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 약관 하나당 AcceptTerms 한 행
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loan.terms.acceptance-store", havingValue = "rows", matchIfMissing = true)
+public class RowAcceptTermsStore implements AcceptTermsStore {
+
+    private final AcceptTermsRepository acceptTermsRepository;
+
+    @Override
+    public void save(Long applicationId, TermsCatalog.Snapshot catalog, BitSet accepted, boolean firstAcceptance) {
+        // 재요청이면 이미 동의한 약관은 제외하고 남은 약관만 한 번에 저장
+        Set<Long> acceptedTermsIds = firstAcceptance
+                ? Collections.emptySet()
+                : new HashSet<>(acceptTermsRepository.findTermsIdsByApplicationId(applicationId));
+
+        List<AcceptTerms> acceptTerms = accepted.stream()
+                .mapToObj(ordinal -> catalog.termsIds()[ordinal])
+                .filter(termsId -> !acceptedTermsIds.contains(termsId))
+                .map(termsId -> AcceptTerms.builder()
+                        .termsId(termsId)
+                        .applicationId(applicationId)
+                        .build())
+                .toList();
+
+        if (!acceptTerms.isEmpty()) {
+            acceptTermsRepository.saveAll(acceptTerms);
+        }
+    }
+
+    @Override
+    public boolean hasAcceptedAll(Long applicationId, TermsCatalog.Snapshot catalog) {
+        return catalog.isAllAccepted(catalog.toBits(acceptTermsRepository.findTermsIdsByApplicationId(applicationId)));
+    }
+
+    @Override
+    public List<SnapshotDTO.AcceptTerms> findAccepted(Long applicationId, TermsCatalog.Snapshot catalog) {
+        return acceptTermsRepository.findAllByApplicationIdIn(List.of(applicationId)).stream()
+                .sorted(Comparator.comparing(AcceptTerms::getTermsId))
+                .map(acceptTerms -> {
+                    Terms terms = catalog.termsOf(acceptTerms.getTermsId());
+                    return SnapshotDTO.AcceptTerms.builder()
+                            .acceptTermsId(acceptTerms.getAcceptTermsId())
+                            .termsId(acceptTerms.getTermsId())
+                            .name(terms == null ? null : terms.getName())
+                            .acceptedAt(acceptTerms.getCreatedAt())
+                            .build();
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.ScheduleDTO;
+
+public interface ScheduleService {
+    ScheduleDTO.Response get(Long applicationId);
+    void evict(Long applicationId);
+}
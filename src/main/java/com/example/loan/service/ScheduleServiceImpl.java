@@ -0,0 +1,162 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.dto.ScheduleDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import com.example.loan.repository.ApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import javax.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduleServiceImpl implements ScheduleService {
+
+    private static final int SCALE = 2;
+    private static final BigDecimal MONTHS_OF_YEAR = BigDecimal.valueOf(12);
+
+    @Value("${loan.schedule.cache-size:1000}")
+    private int cacheSize;
+
+    private final ApplicationRepository applicationRepository;
+
+    private Map<Long, CachedSchedule> cache;
+
+    @PostConstruct
+    void initCache() {
+        // access-order LinkedHashMap 으로 가장 오래 조회되지 않은 스케줄부터 제거
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedSchedule> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public ScheduleDTO.Response get(Long applicationId) {
+        Application application = applicationRepository.findById(applicationId).orElseThrow(() -> {
+            throw new BaseException(ResultType.SYSTEM_ERROR);
+        });
+
+        // 약정 체결 전이거나 만기/승인 금액이 없으면 스케줄을 만들 수 없음
+        if (application.getContractedAt() == null || application.getMaturity() == null
+                || application.getApprovalAmount() == null || application.getApprovalAmount().signum() <= 0) {
+            throw new BaseException(ResultType.SYSTEM_ERROR);
+        }
+
+        // 계산에 쓰인 입력값이 그대로일 때만 캐시 사용
+        ScheduleKey key = ScheduleKey.of(application);
+        CachedSchedule cached = cache.get(applicationId);
+        if (cached != null && cached.key().equals(key)) {
+            return cached.schedule();
+        }
+
+        ScheduleDTO.Response schedule = calculate(key);
+        cache.put(applicationId, new CachedSchedule(key, schedule));
+        return schedule;
+    }
+
+    // 호출한 트랜잭션이 커밋되기 전에 지우면 다른 요청이 커밋 전 값으로 다시 채울 수 있으므로 커밋 이후에 제거
+    @Override
+    public void evict(Long applicationId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(applicationId);
+                }
+            });
+        } else {
+            cache.remove(applicationId);
+        }
+    }
+
+    // 원리금균등상환: 월 상환액 = 원금 * r / (1 - (1 + r)^-n), 마지막 회차에서 단수 차이를 정리
+    private ScheduleDTO.Response calculate(ScheduleKey key) {
+        BigDecimal principalAmount = key.approvalAmount();
+        BigDecimal interestRate = Objects.requireNonNullElse(key.interestRate(), BigDecimal.ZERO);
+        BigDecimal fee = Objects.requireNonNullElse(key.fee(), BigDecimal.ZERO);
+        LocalDate startDate = key.contractedAt().toLocalDate();
+        int count = (int) Math.max(1, ChronoUnit.MONTHS.between(startDate, key.maturity().toLocalDate()));
+
+        BigDecimal monthlyRate = interestRate.divide(MONTHS_OF_YEAR, MathContext.DECIMAL64);
+        BigDecimal payment;
+        if (monthlyRate.signum() == 0) {
+            payment = principalAmount.divide(BigDecimal.valueOf(count), SCALE, RoundingMode.HALF_UP);
+        } else {
+            BigDecimal discount = BigDecimal.ONE.subtract(
+                    BigDecimal.ONE.add(monthlyRate).pow(-count, MathContext.DECIMAL64), MathContext.DECIMAL64);
+            payment = principalAmount.multiply(monthlyRate).divide(discount, SCALE, RoundingMode.HALF_UP);
+        }
+
+        List<ScheduleDTO.Installment> installments = new ArrayList<>(count);
+        BigDecimal remaining = principalAmount;
+        BigDecimal totalInterest = BigDecimal.ZERO;
+        for (int number = 1; number <= count; number++) {
+            BigDecimal interest = remaining.multiply(monthlyRate).setScale(SCALE, RoundingMode.HALF_UP);
+            BigDecimal principal = number == count ? remaining : payment.subtract(interest).min(remaining);
+            remaining = remaining.subtract(principal);
+            totalInterest = totalInterest.add(interest);
+
+            installments.add(ScheduleDTO.Installment.builder()
+                    .installmentNumber(number)
+                    .dueDate(startDate.plusMonths(number))
+                    .payment(principal.add(interest))
+                    .principal(principal)
+                    .interest(interest)
+                    .remainingBalance(remaining)
+                    .build());
+        }
+
+        return ScheduleDTO.Response.builder()
+                .applicationId(key.applicationId())
+                .approvalAmount(principalAmount)
+                .interestRate(interestRate)
+                .fee(fee)
+                .feeAmount(principalAmount.multiply(fee).setScale(SCALE, RoundingMode.HALF_UP))
+                .contractedAt(key.contractedAt())
+                .maturity(key.maturity())
+                .installmentCount(count)
+                .totalInterest(totalInterest)
+                .installments(Collections.unmodifiableList(installments))
+                .build();
+    }
+
+    private record ScheduleKey(Long applicationId, BigDecimal approvalAmount, BigDecimal interestRate,
+                               BigDecimal fee, LocalDateTime contractedAt, LocalDateTime maturity) {
+
+        // 스케일만 다른 금액/금리가 다른 키가 되지 않도록 정규화
+        static ScheduleKey of(Application application) {
+            return new ScheduleKey(application.getApplicationId(),
+                    normalize(application.getApprovalAmount()),
+                    normalize(application.getInterestRate()),
+                    normalize(application.getFee()),
+                    application.getContractedAt(),
+                    application.getMaturity());
+        }
+
+        private static BigDecimal normalize(BigDecimal value) {
+            return value == null ? null : value.stripTrailingZeros();
+        }
+    }
+
+    private record CachedSchedule(ScheduleKey key, ScheduleDTO.Response schedule) {
+    }
+}
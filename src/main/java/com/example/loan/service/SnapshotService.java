@@ -0,0 +1,7 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.SnapshotDTO;
+
+public interface SnapshotService {
+    SnapshotDTO.Response get(Long applicationId, int repaymentLimit);
+}
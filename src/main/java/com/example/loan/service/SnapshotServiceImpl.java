@@ -0,0 +1,72 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.SnapshotDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import com.example.loan.repository.ApplicationSnapshotRepository;
+import com.example.loan.repository.RepaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SnapshotServiceImpl implements SnapshotService {
+
+    private static final int MAX_REPAYMENT_LIMIT = 100;
+
+    private final ApplicationSnapshotRepository applicationSnapshotRepository;
+    private final RepaymentRepository repaymentRepository;
+    private final AcceptTermsStore acceptTermsStore;
+    private final TermsCatalog termsCatalog;
+
+    @Override
+    public SnapshotDTO.Response get(Long applicationId, int repaymentLimit) {
+        List<ApplicationSnapshotRepository.SnapshotRow> rows = applicationSnapshotRepository.findSnapshot(applicationId);
+        if (rows.isEmpty()) {
+            throw new BaseException(ResultType.SYSTEM_ERROR);
+        }
+        ApplicationSnapshotRepository.SnapshotRow row = rows.get(0);
+
+        // 동의 약관은 저장 방식(rows / bitmap)에 관계없이 같은 내용이 되도록 저장소를 통해 조회
+        List<SnapshotDTO.AcceptTerms> acceptTerms = acceptTermsStore.findAccepted(applicationId, termsCatalog.current());
+
+        int limit = Math.min(Math.max(repaymentLimit, 0), MAX_REPAYMENT_LIMIT);
+        List<SnapshotDTO.Repayment> repayments = limit == 0 ? List.of() : repaymentRepository
+                .findHistory(applicationId, Long.MAX_VALUE, PageRequest.of(0, limit)).stream()
+                .map(repayment -> SnapshotDTO.Repayment.builder()
+                        .repaymentId(repayment.getRepaymentId())
+                        .repaymentAmount(repayment.getRepaymentAmount())
+                        .createdAt(repayment.getCreatedAt())
+                        .build())
+                .toList();
+
+        return SnapshotDTO.Response.builder()
+                .applicationId(row.getApplicationId())
+                .name(row.getName())
+                .cellPhone(row.getCellPhone())
+                .email(row.getEmail())
+                .hopeAmount(row.getHopeAmount())
+                .approvalAmount(row.getApprovalAmount())
+                .interestRate(row.getInterestRate())
+                .fee(row.getFee())
+                .maturity(row.getMaturity())
+                .appliedAt(row.getAppliedAt())
+                .contractedAt(row.getContractedAt())
+                .status(row.getStatus())
+                .judgment(row.getJudgmentId() == null ? null : SnapshotDTO.Judgment.builder()
+                        .judgmentId(row.getJudgmentId())
+                        .name(row.getJudgmentName())
+                        .approvalAmount(row.getJudgmentApprovalAmount())
+                        .build())
+                .entry(row.getEntryId() == null ? null : SnapshotDTO.Entry.builder()
+                        .entryId(row.getEntryId())
+                        .entryAmount(row.getEntryAmount())
+                        .build())
+                .balance(row.getBalance() == null ? null : row.getBalance().add(row.getPendingAmount()).toBigDecimal())
+                .acceptTerms(acceptTerms)
+                .repayments(repayments)
+                .build();
+    }
+}
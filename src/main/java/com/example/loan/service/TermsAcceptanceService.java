@@ -0,0 +1,7 @@
+package com.example.loan.service;
+
+public interface TermsAcceptanceService {
+
+    // AcceptTerms 행 단위 내역을 신청별 bitmap 으로 이관. 이관한 신청 수 반환
+    Long migrate();
+}
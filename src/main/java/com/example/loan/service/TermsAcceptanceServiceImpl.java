@@ -0,0 +1,75 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.AcceptTerms;
+import com.example.loan.domain.TermsAcceptance;
+import com.example.loan.repository.AcceptTermsRepository;
+import com.example.loan.repository.TermsAcceptanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TermsAcceptanceServiceImpl implements TermsAcceptanceService {
+
+    @Value("${loan.terms.migration-batch-size:1000}")
+    private int batchSize;
+
+    private final AcceptTermsRepository acceptTermsRepository;
+    private final TermsAcceptanceRepository termsAcceptanceRepository;
+    private final TermsCatalog termsCatalog;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public Long migrate() {
+        TermsCatalog.Snapshot catalog = termsCatalog.current();
+
+        // 신청 ID 순으로 batch 단위 이관, 배치마다 커밋하므로 중단되어도 다시 실행하면 이어서 진행
+        long afterId = 0;
+        long migrated = 0;
+        List<Long> applicationIds;
+        do {
+            applicationIds = acceptTermsRepository.findApplicationIds(afterId, PageRequest.of(0, batchSize));
+            if (applicationIds.isEmpty()) {
+                break;
+            }
+
+            List<Long> batch = applicationIds;
+            migrated += transactionTemplate.execute(status -> migrate(batch, catalog));
+            afterId = applicationIds.get(applicationIds.size() - 1);
+        } while (applicationIds.size() == batchSize);
+
+        log.info("terms acceptance migrated. revision={}, count={}", catalog.revision(), migrated);
+        return migrated;
+    }
+
+    private long migrate(List<Long> applicationIds, TermsCatalog.Snapshot catalog) {
+        // 이미 bitmap 이 있는 신청은 건너뜀
+        Set<Long> migratedIds = new HashSet<>(termsAcceptanceRepository.findApplicationIds(applicationIds));
+
+        Map<Long, List<Long>> termsIdsByApplication = acceptTermsRepository.findAllByApplicationIdIn(applicationIds).stream()
+                .filter(acceptTerms -> !migratedIds.contains(acceptTerms.getApplicationId()))
+                .collect(Collectors.groupingBy(AcceptTerms::getApplicationId,
+                        Collectors.mapping(AcceptTerms::getTermsId, Collectors.toList())));
+
+        List<TermsAcceptance> acceptances = termsIdsByApplication.entrySet().stream()
+                .map(entry -> TermsAcceptance.builder()
+                        .applicationId(entry.getKey())
+                        .catalogRevision(catalog.revision())
+                        .acceptedTerms(catalog.toBits(entry.getValue()).toByteArray())
+                        .build())
+                .toList();
+
+        termsAcceptanceRepository.saveAll(acceptances);
+        return acceptances.size();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Terms;
+import com.example.loan.repository.TermsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+// 약관 목록을 버전과 함께 메모리에 유지. 약관이 바뀌면 버전을 올리고 다음 조회 때 다시 적재.
+// 다른 인스턴스에서 바뀐 약관은 무효화가 오지 않으므로 check-interval 마다 DB 의 약관 구성과 비교
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TermsCatalog {
+
+    @Value("${loan.terms.catalog-check-interval:5000}")
+    private long checkInterval;
+
+    private final TermsRepository termsRepository;
+
+    private long version;
+    private Revision revision;
+    private volatile Snapshot snapshot;
+    private volatile long checkedAt;
+
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && !isCheckDue()) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (snapshot != null && !isCheckDue()) {
+                return snapshot;
+            }
+
+            // 적재 직후에는 적재한 목록으로 구성을 계산하므로 확인 쿼리 없이 사용
+            if (snapshot == null || !Revision.of(termsRepository.findRevision()).equals(revision)) {
+                List<Terms> termsList = termsRepository.findAll(Sort.by(Sort.Direction.ASC, "termsId"));
+                version++;
+                snapshot = Snapshot.of(version, termsList);
+                revision = Revision.of(termsList);
+                log.info("terms catalog loaded. version={}, count={}", version, snapshot.size());
+            }
+            checkedAt = System.currentTimeMillis();
+            return snapshot;
+        }
+    }
+
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private boolean isCheckDue() {
+        return System.currentTimeMillis() - checkedAt >= checkInterval;
+    }
+
+    // 약관 추가/삭제/수정은 건수, 최대 ID, 최종 수정일자 중 하나를 바꿈
+    private record Revision(long termsCount, Long maxTermsId, LocalDateTime lastUpdatedAt) {
+
+        static Revision of(TermsRepository.Revision revision) {
+            return new Revision(revision.getTermsCount(), revision.getMaxTermsId(), revision.getLastUpdatedAt());
+        }
+
+        static Revision of(List<Terms> termsList) {
+            return new Revision(termsList.size(),
+                    termsList.stream().map(Terms::getTermsId).max(Comparator.naturalOrder()).orElse(null),
+                    termsList.stream().map(Terms::getUpdatedAt).filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null));
+        }
+    }
+
+    // version 은 인스턴스 안에서만 쓰는 캐시 버전, revision 은 약관 ID 구성으로 계산해 재시작해도 같은 값
+    public record Snapshot(long version, long revision, long[] termsIds, List<Terms> termsList) {
+
+        public static Snapshot of(long version, List<Terms> termsList) {
+            long[] termsIds = termsList.stream().mapToLong(Terms::getTermsId).sorted().toArray();
+            return new Snapshot(version, revisionOf(termsIds), termsIds, List.copyOf(termsList));
+        }
+
+        private static long revisionOf(long[] termsIds) {
+            long revision = 1125899906842597L;
+            for (long termsId : termsIds) {
+                revision = 31 * revision + termsId;
+            }
+            return revision;
+        }
+
+        // 약관 ID 의 순번 (0 부터). 없는 약관이면 음수
+        public int ordinalOf(Long termsId) {
+            return termsId == null ? -1 : Arrays.binarySearch(termsIds, termsId);
+        }
+
+        // 카탈로그에 없는 약관이면 null
+        public Terms termsOf(Long termsId) {
+            int ordinal = ordinalOf(termsId);
+            return ordinal < 0 ? null : termsList.get(ordinal);
+        }
+
+        public int size() {
+            return termsIds.length;
+        }
+
+        // 약관 ID 목록을 순번 bitset 으로 변환. 카탈로그에 없는 약관은 무시
+        public BitSet toBits(Collection<Long> acceptedTermsIds) {
+            BitSet bits = new BitSet(size());
+            for (Long termsId : acceptedTermsIds) {
+                int ordinal = ordinalOf(termsId);
+                if (ordinal >= 0) {
+                    bits.set(ordinal);
+                }
+            }
+            return bits;
+        }
+
+        public boolean isAllAccepted(BitSet accepted) {
+            return size() > 0 && accepted.nextClearBit(0) >= size();
+        }
+    }
+}
@@ -7,4 +7,5 @@ public interface TermsService {
 
     TermsDTO.Response create(TermsDTO.Request request);
     List<TermsDTO.Response> getAll();
+    TermsDTO.Snapshot getSnapshot();
 }
@@ -1,12 +1,21 @@
 package com.example.loan.service;
 
+import com.example.loan.aspect.SingleFlight;
 import com.example.loan.domain.Terms;
+import com.example.loan.dto.ResponseDTO;
 import com.example.loan.dto.TermsDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
 import com.example.loan.repository.TermsRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,12 +25,20 @@ import java.util.stream.Collectors;
 public class TermsServiceImpl implements TermsService{
 
     private final TermsRepository termsRepository;
+    private final TermsCatalog termsCatalog;
+    private final ObjectMapper objectMapper;
     private final ModelMapper modelMapper;
 
+    private volatile TermsDTO.Snapshot snapshot;
+
     @Override
     public TermsDTO.Response create(TermsDTO.Request request) {
         Terms terms = modelMapper.map(request, Terms.class);
         Terms created = termsRepository.save(terms);
+
+        // 약관이 추가되었으므로 카탈로그 버전 증가
+        termsCatalog.invalidate();
+
         return modelMapper.map(created, TermsDTO.Response.class);
     }
 
@@ -30,4 +47,46 @@ public class TermsServiceImpl implements TermsService{
         List<Terms> termsList = termsRepository.findAll();
         return termsList.stream().map(terms -> modelMapper.map(terms, TermsDTO.Response.class)).collect(Collectors.toList());
     }
+
+    // GET /terms. 카탈로그가 바뀐 직후 동시에 들어온 요청은 직렬화를 한 번만 수행
+    @Override
+    @SingleFlight
+    public TermsDTO.Snapshot getSnapshot() {
+        TermsCatalog.Snapshot catalog = termsCatalog.current();
+
+        TermsDTO.Snapshot current = snapshot;
+        if (current != null && current.getVersion() == catalog.version()) {
+            return current;
+        }
+
+        List<TermsDTO.Response> responses = catalog.termsList().stream()
+                .map(terms -> modelMapper.map(terms, TermsDTO.Response.class))
+                .collect(Collectors.toList());
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ResponseDTO.ok(responses));
+        } catch (JsonProcessingException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "failed to serialize terms");
+        }
+
+        TermsDTO.Snapshot created = TermsDTO.Snapshot.builder()
+                .version(catalog.version())
+                .etag(etagOf(body))
+                .body(body)
+                .build();
+        snapshot = created;
+        log.info("terms snapshot serialized. version={}, bytes={}", created.getVersion(), body.length);
+        return created;
+    }
+
+    // 응답 본문 해시로 만든 강한 ETag. 인스턴스마다 버전이 달라도 내용이 같으면 같은 값
+    private String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "failed to create terms etag");
+        }
+    }
 }
@@ -0,0 +1,451 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Counsel;
+import com.example.loan.dto.CounselDTO;
+import com.example.loan.dto.CustomerDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.ResultType;
+import com.example.loan.repository.CounselRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// 상담 접수를 로컬 로그(WAL)에 fsync 한 뒤 바로 응답하고, flusher 가 모아서 JDBC batch 로 저장.
+// 로그는 segment 파일로 나눠 쓰고 DB 반영이 끝난 segment 만 삭제하므로, 재시작 시 남은 segment 를 다시 반영.
+// 응답한 접수가 사라지지 않도록 저장할 수 없는 행은 dead-letter 파일에, 깨진 segment 는 .corrupt 로 옮겨 보관
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loan.counsel.intake.mode", havingValue = "wal")
+public class WalCounselIntake implements CounselIntake {
+
+    private static final String SEGMENT_PREFIX = "counsel-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+    private static final String DEAD_LETTER_FILE = "counsel-dead-letter.jsonl";
+    // 레코드 = 길이(int) + CRC32(int) + JSON
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 1024 * 1024;
+    // text 컬럼 최대 바이트
+    private static final int MAX_MEMO_BYTES = 65535;
+    // 체크섬은 맞지만 읽을 수 없는 레코드 표시
+    private static final CounselDTO.Intake CORRUPT = new CounselDTO.Intake();
+
+    @Value("${loan.counsel.intake.wal-dir:counsel-wal}")
+    private String walDir;
+
+    @Value("${loan.counsel.intake.batch-size:500}")
+    private int batchSize;
+
+    @Value("${loan.counsel.intake.max-group-size:1000}")
+    private int maxGroupSize;
+
+    @Value("${loan.counsel.intake.ack-timeout:5000}")
+    private long ackTimeout;
+
+    private final CounselRepository counselRepository;
+    private final CounselSearchIndex counselSearchIndex;
+    private final CustomerIdentityService customerIdentityService;
+    private final ObjectMapper objectMapper;
+    private final ModelMapper modelMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Path directory;
+    private FileChannel active;
+    private volatile long activeSequence;
+    private volatile boolean running;
+    private Thread writer;
+
+    @PostConstruct
+    void init() throws IOException {
+        directory = Paths.get(walDir);
+        Files.createDirectories(directory);
+
+        // 이전 실행에서 남은 segment 는 그대로 두고(다음 flush 때 반영) 다음 번호로 새 segment 시작
+        activeSequence = segments().stream().mapToLong(this::sequenceOf).max().orElse(0) + 1;
+        active = open(activeSequence);
+
+        running = true;
+        writer = new Thread(this::writeLoop, "counsel-wal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException, InterruptedException {
+        running = false;
+        writer.join(ackTimeout);
+
+        PendingWrite pending;
+        while ((pending = queue.poll()) != null) {
+            pending.written().completeExceptionally(new IllegalStateException("counsel intake log closed"));
+        }
+        synchronized (this) {
+            active.close();
+        }
+    }
+
+    @Override
+    public Counsel accept(Counsel counsel) {
+        if (!running) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "counsel intake log closed");
+        }
+
+        // 응답한 뒤에는 되돌릴 수 없으므로 DB 에서 거절될 값은 로그에 쓰기 전에 거절
+        validate(counsel);
+        counsel.setIntakeId(UUID.randomUUID().toString());
+        byte[] record;
+        try {
+            record = objectMapper.writeValueAsBytes(modelMapper.map(counsel, CounselDTO.Intake.class));
+        } catch (JsonProcessingException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, e.getMessage());
+        }
+        if (record.length > MAX_RECORD_SIZE) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "counsel intake too large");
+        }
+
+        // fsync 까지 끝나야 응답
+        PendingWrite pending = new PendingWrite(record, new CompletableFuture<>(), new AtomicBoolean());
+        queue.add(pending);
+        try {
+            try {
+                pending.written().get(ackTimeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // writer 가 아직 가져가지 않았으면 취소. 실패로 응답한 접수가 나중에 저장되지 않게 함
+                if (cancel(pending)) {
+                    throw new BaseException(ResultType.SYSTEM_ERROR, "counsel intake timed out");
+                }
+                // 이미 쓰는 중이면 그 묶음의 fsync 결과를 따름
+                pending.written().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(pending);
+            throw new BaseException(ResultType.SYSTEM_ERROR, "counsel intake interrupted");
+        } catch (ExecutionException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "counsel intake log write failed");
+        }
+        return counsel;
+    }
+
+    private boolean cancel(PendingWrite pending) {
+        if (!pending.taken().compareAndSet(false, true)) {
+            return false;
+        }
+        queue.remove(pending);
+        return true;
+    }
+
+    // 쓰기 중인 segment 를 닫고, 닫힌 segment 를 오래된 순서로 DB 에 반영한 뒤 삭제. 반영 건수 반환
+    @Scheduled(fixedDelayString = "${loan.counsel.intake.flush-delay:1000}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            rotate();
+            int flushed = 0;
+            for (Path segment : segments()) {
+                if (sequenceOf(segment) < activeSequence) {
+                    flushed += replay(segment);
+                }
+            }
+            return flushed;
+        } catch (IOException e) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "counsel intake flush failed: " + e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 대기 중인 요청을 한 번에 모아 쓰고 fsync 한 번으로 확정 (group commit)
+    private void writeLoop() {
+        List<PendingWrite> group = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, maxGroupSize - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // 응답 대기 시간이 지나 취소된 요청은 쓰지 않음
+            group.removeIf(pending -> !pending.taken().compareAndSet(false, true));
+            if (group.isEmpty()) {
+                continue;
+            }
+
+            try {
+                write(group);
+                group.forEach(pending -> pending.written().complete(null));
+            } catch (IOException | RuntimeException e) {
+                log.error("counsel intake log write failed. records={}", group.size(), e);
+                group.forEach(pending -> pending.written().completeExceptionally(e));
+            }
+            group.clear();
+        }
+    }
+
+    private synchronized void write(List<PendingWrite> group) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(group.stream().mapToInt(pending -> HEADER_SIZE + pending.record().length).sum());
+        for (PendingWrite pending : group) {
+            buffer.putInt(pending.record().length).putInt(checksumOf(pending.record())).put(pending.record());
+        }
+        buffer.flip();
+
+        long position = active.position();
+        try {
+            while (buffer.hasRemaining()) {
+                active.write(buffer);
+            }
+            active.force(false);
+        } catch (IOException e) {
+            // 반쯤 쓰인 레코드 뒤에 다음 묶음이 붙으면 replay 가 거기서 멈추므로 되돌림
+            try {
+                active.truncate(position);
+                active.position(position);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void rotate() throws IOException {
+        if (active.size() == 0) {
+            return;
+        }
+        active.close();
+        active = open(activeSequence + 1);
+        activeSequence++;
+    }
+
+    // 반영이 끝난 segment 는 삭제. 중간에 깨진 레코드가 있으면 그 앞까지만 반영하고 .corrupt 로 옮겨 보관
+    private int replay(Path segment) throws IOException {
+        int records = 0;
+        int flushed = 0;
+        boolean corrupt = false;
+        List<CounselDTO.Intake> batch = new ArrayList<>(batchSize);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+            CounselDTO.Intake intake;
+            while ((intake = read(input)) != null) {
+                if (intake == CORRUPT) {
+                    corrupt = true;
+                    break;
+                }
+                records++;
+                batch.add(intake);
+                if (batch.size() == batchSize) {
+                    flushed += insert(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushed += insert(batch);
+        }
+
+        if (corrupt) {
+            Path quarantined = segment.resolveSibling(segment.getFileName() + CORRUPT_SUFFIX);
+            Files.move(segment, quarantined);
+            log.error("counsel intake log has corrupt record. quarantined={}, replayedRecords={}", quarantined, records);
+        } else {
+            Files.delete(segment);
+        }
+        return flushed;
+    }
+
+    // 끝이 잘린 레코드는 fsync 전에 중단된 쓰기(응답하지 않은 요청)이므로 정상 종료로 봄.
+    // 길이/checksum/내용이 맞지 않는 레코드는 응답한 접수가 손상된 것일 수 있으므로 CORRUPT
+    private CounselDTO.Intake read(DataInputStream input) throws IOException {
+        byte[] record;
+        int checksum;
+        try {
+            int length = input.readInt();
+            checksum = input.readInt();
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                return CORRUPT;
+            }
+            record = new byte[length];
+            input.readFully(record);
+        } catch (EOFException e) {
+            return null;
+        }
+
+        if (checksumOf(record) != checksum) {
+            return CORRUPT;
+        }
+        try {
+            return objectMapper.readValue(record, CounselDTO.Intake.class);
+        } catch (JsonProcessingException e) {
+            return CORRUPT;
+        }
+    }
+
+    // 한 batch 를 한 트랜잭션으로. 값 때문에 실패하면 한 건씩 다시 저장하고, 그래도 실패한 행은 dead-letter 로.
+    // DB 장애 같은 다른 오류는 그대로 던져 segment 를 남기고 다음 flush 에서 다시 반영
+    private int insert(List<CounselDTO.Intake> batch) throws IOException {
+        // 고객 키는 요청 경로가 아닌 flush 시점에 batch 단위로 연결 (별도 트랜잭션)
+        List<String> resolved = customerIdentityService.resolveAll(batch.stream()
+                .map(intake -> CustomerDTO.Contact.builder()
+                        .cellPhone(intake.getCellPhone())
+                        .email(intake.getEmail())
+                        .build())
+                .toList());
+        Map<String, String> customerKeys = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (resolved.get(i) != null) {
+                customerKeys.put(batch.get(i).getIntakeId(), resolved.get(i));
+            }
+        }
+
+        try {
+            return save(batch, customerKeys);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("counsel intake batch rejected. retry one by one. records={}", batch.size(), e);
+        }
+
+        int inserted = 0;
+        for (CounselDTO.Intake intake : batch) {
+            try {
+                inserted += save(List.of(intake), customerKeys);
+            } catch (DataIntegrityViolationException e) {
+                deadLetter(intake, e);
+            }
+        }
+        return inserted;
+    }
+
+    // 앞선 flush 가 중간에 멈춰 이미 반영된 접수 ID 는 건너뜀
+    private int save(List<CounselDTO.Intake> batch, Map<String, String> customerKeys) {
+        List<Counsel> inserted = transactionTemplate.execute(status -> {
+            Set<String> existing = new HashSet<>(counselRepository.findIntakeIdsIn(
+                    batch.stream().map(CounselDTO.Intake::getIntakeId).toList()));
+
+            Map<String, Counsel> counsels = new LinkedHashMap<>();
+            for (CounselDTO.Intake intake : batch) {
+                if (!existing.contains(intake.getIntakeId())) {
+                    Counsel counsel = modelMapper.map(intake, Counsel.class);
+                    counsel.setCustomerKey(customerKeys.get(intake.getIntakeId()));
+                    counsels.putIfAbsent(intake.getIntakeId(), counsel);
+                }
+            }
+            return counselRepository.saveAllAndFlush(counsels.values());
+        });
+
+        inserted.forEach(counselSearchIndex::add);
+        return inserted.size();
+    }
+
+    // 한 줄에 접수 하나(JSON). 수동으로 고쳐 다시 반영할 수 있도록 원본 그대로 기록
+    private void deadLetter(CounselDTO.Intake intake, RuntimeException cause) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(intake) + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        log.error("counsel intake moved to dead letter. intakeId={}", intake.getIntakeId(), cause);
+    }
+
+    // 컬럼 정의와 같은 제한. direct 모드에서 insert 가 거절되는 값과 같은 값을 거절
+    private void validate(Counsel counsel) {
+        checkLength("name", counsel.getName(), 12);
+        checkLength("cellPhone", counsel.getCellPhone(), 13);
+        checkLength("email", counsel.getEmail(), 50);
+        checkLength("address", counsel.getAddress(), 50);
+        checkLength("addressDetail", counsel.getAddressDetail(), 50);
+        checkLength("zipCode", counsel.getZipCode(), 5);
+        if (counsel.getMemo() != null && counsel.getMemo().getBytes(StandardCharsets.UTF_8).length > MAX_MEMO_BYTES) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "invalid counsel memo");
+        }
+        if (counsel.getAppliedAt() == null) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "invalid counsel appliedAt");
+        }
+    }
+
+    private void checkLength(String field, String value, int maxLength) {
+        if (value != null && value.codePointCount(0, value.length()) > maxLength) {
+            throw new BaseException(ResultType.SYSTEM_ERROR, "invalid counsel " + field);
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    // 이름 순 정렬이 번호 순이 되도록 0 으로 채움
+    private FileChannel open(long sequence) throws IOException {
+        Path segment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        return FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private static int checksumOf(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    // taken: writer 가 가져갔거나 요청이 취소됨. 먼저 가져간 쪽만 true 로 바꿀 수 있음
+    private record PendingWrite(byte[] record, CompletableFuture<Void> written, AtomicBoolean taken) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.loan.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowReader reader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SlowReader());
+        factory.addAspect(new SingleFlightAspect(meterRegistry));
+        reader = factory.getProxy();
+    }
+
+    @Test
+    void Should_ShareOneCall_When_SameReadsAreConcurrent() throws Exception {
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> reader.read(1L)));
+        }
+        // 모든 호출이 대기 중인 첫 호출에 합류할 때까지 기다린 뒤 풀어줌
+        SlowReader.awaitWaiting(callers - 1, meterRegistry);
+        SlowReader.release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        }
+        executor.shutdown();
+
+        assertThat(SlowReader.invocations.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("singleflight.coalesced").counter().count()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void Should_CallAgain_When_PreviousCallFinished() {
+        SlowReader.release.countDown();
+
+        reader.read(2L);
+        reader.read(2L);
+
+        assertThat(SlowReader.invocations.get()).isEqualTo(2);
+        assertThrows(IllegalStateException.class, () -> reader.fail());
+    }
+
+    static class SlowReader {
+
+        static CountDownLatch release;
+        static AtomicInteger invocations;
+
+        SlowReader() {
+            release = new CountDownLatch(1);
+            invocations = new AtomicInteger();
+        }
+
+        @SingleFlight
+        public String read(Long id) {
+            invocations.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value-" + id;
+        }
+
+        @SingleFlight
+        public String fail() {
+            throw new IllegalStateException("fail");
+        }
+
+        static void awaitWaiting(int followers, SimpleMeterRegistry meterRegistry) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (System.currentTimeMillis() < deadline) {
+                if (meterRegistry.find("singleflight.coalesced").counter() != null
+                        && meterRegistry.find("singleflight.coalesced").counter().count() >= followers) {
+                    return;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
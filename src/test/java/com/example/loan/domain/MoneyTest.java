@@ -0,0 +1,58 @@
+package com.example.loan.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void Should_ThrowArithmeticException_When_ResultOverflows() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+        Money min = Money.ofMinor(Long.MIN_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.add(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, () -> min.subtract(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, min::negate);
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("92233720368547758.08")));
+        assertThat(max.subtract(Money.ofMinor(1)).add(Money.ofMinor(1))).isEqualTo(max);
+    }
+
+    @Test
+    void Should_RoundHalfUpToMinorUnits_When_CreateFromBigDecimal() {
+        assertThat(Money.of(new BigDecimal("10.005")).getMinorUnits()).isEqualTo(1001);
+        assertThat(Money.of(new BigDecimal("10.004")).getMinorUnits()).isEqualTo(1000);
+        assertThat(Money.of(new BigDecimal("-10.005")).getMinorUnits()).isEqualTo(-1001);
+        assertThat(Money.of(new BigDecimal("1E+3")).toBigDecimal()).isEqualTo(new BigDecimal("1000.00"));
+        assertThat(Money.of(BigDecimal.ZERO)).isSameAs(Money.ZERO);
+        assertThat(Money.of(null)).isNull();
+    }
+
+    @Test
+    void Should_KeepAmount_When_SerializeAndDeserializeJson() throws IOException {
+        Money money = Money.of(new BigDecimal("12345.67"));
+
+        String json = objectMapper.writeValueAsString(money);
+
+        assertThat(json).isEqualTo("12345.67");
+        assertThat(objectMapper.readValue(json, Money.class)).isEqualTo(money);
+        assertThat(objectMapper.readValue("1.235", Money.class).getMinorUnits()).isEqualTo(124);
+    }
+
+    @Test
+    void Should_KeepNull_When_ConvertBetweenColumnAndAttribute() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(Money.ofMinor(-500))))
+                .isEqualTo(Money.ofMinor(-500));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.domain.InterestAccrual;
+import com.example.loan.domain.Money;
+import com.example.loan.dto.AccrualDTO;
+import com.example.loan.dto.EntryDTO;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.InterestAccrualRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"loan.accrual.parallelism=2", "loan.accrual.batch-size=2"})
+class AccrualServiceTest {
+
+    @Autowired
+    private AccrualService accrualService;
+
+    @Autowired
+    private EntryService entryService;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private InterestAccrualRepository interestAccrualRepository;
+
+    @Test
+    void Should_AccrueDailyInterestOnlyOnce_When_RequestAccrualOfSameDateAgain() {
+        LocalDate accrualDate = LocalDate.now().minusDays(1);
+
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long applicationId = applicationRepository.save(Application.builder()
+                    .name("Member " + i)
+                    .interestRate(BigDecimal.valueOf(0.0365))
+                    .contractedAt(LocalDateTime.now().minusDays(10))
+                    .status(Application.Status.CONTRACTED)
+                    .maturity(LocalDateTime.now().plusYears(1))
+                    .build()).getApplicationId();
+            entryService.create(applicationId, EntryDTO.Request.builder()
+                    .entryAmount(BigDecimal.valueOf(100000))
+                    .build());
+            applicationIds.add(applicationId);
+        }
+
+        AccrualDTO.Response first = accrualService.accrue(accrualDate);
+        AccrualDTO.Response second = accrualService.accrue(accrualDate);
+
+        List<InterestAccrual> accruals = interestAccrualRepository.findAllByAccrualDate(accrualDate).stream()
+                .filter(accrual -> applicationIds.contains(accrual.getApplicationId()))
+                .toList();
+
+        assertThat(first.getAccruedCount()).isGreaterThanOrEqualTo(applicationIds.size());
+        assertThat(second.getAccruedCount()).isZero();
+        assertThat(accruals).hasSize(applicationIds.size());
+        assertThat(accruals.get(0).getInterestAmount()).isEqualTo(Money.of(BigDecimal.valueOf(10)));
+        assertThat(balanceService.get(applicationIds.get(0)).getBalance()).isEqualTo(Money.of(BigDecimal.valueOf(100010)));
+    }
+
+    @Test
+    void Should_AccrueOnPrincipalOnly_When_InterestAccruedOnPreviousDays() {
+        Long applicationId = disbursed(BigDecimal.valueOf(0.365), BigDecimal.valueOf(10_000_000));
+
+        accrualService.accrue(LocalDate.now().minusDays(5));
+        accrualService.accrue(LocalDate.now().minusDays(4));
+
+        // 전날 이자(10,000)에는 이자가 붙지 않음
+        assertThat(interestAccrualRepository.findAllByAccrualDate(LocalDate.now().minusDays(4)).stream()
+                .filter(accrual -> accrual.getApplicationId().equals(applicationId))
+                .map(InterestAccrual::getInterestAmount))
+                .containsExactly(Money.of(BigDecimal.valueOf(10000)));
+        assertThat(balanceService.get(applicationId).getBalance()).isEqualTo(Money.of(BigDecimal.valueOf(10_020_000)));
+    }
+
+    @Test
+    void Should_AccrueNewlyDisbursedApplication_When_ResumeAccrualOfSameDate() {
+        LocalDate accrualDate = LocalDate.now().minusDays(7);
+        Long before = disbursed(BigDecimal.valueOf(0.0365), BigDecimal.valueOf(100000));
+        accrualService.accrue(accrualDate);
+
+        // 체크포인트를 만든 뒤 집행된 신청
+        Long after = disbursed(BigDecimal.valueOf(0.0365), BigDecimal.valueOf(100000));
+        AccrualDTO.Response resumed = accrualService.accrue(accrualDate);
+
+        assertThat(resumed.getAccruedCount()).isEqualTo(1);
+        assertThat(interestAccrualRepository.findAllByAccrualDate(accrualDate).stream()
+                .map(InterestAccrual::getApplicationId))
+                .contains(before, after)
+                .doesNotHaveDuplicates();
+    }
+
+    private Long disbursed(BigDecimal interestRate, BigDecimal entryAmount) {
+        Long applicationId = applicationRepository.save(Application.builder()
+                .name("Member Yoon")
+                .interestRate(interestRate)
+                .contractedAt(LocalDateTime.now().minusDays(10))
+                .status(Application.Status.CONTRACTED)
+                .maturity(LocalDateTime.now().plusYears(1))
+                .build()).getApplicationId();
+        entryService.create(applicationId, EntryDTO.Request.builder()
+                .entryAmount(entryAmount)
+                .build());
+        return applicationId;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.loan.service;
+
+import com.example.loan.repository.ApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationIdRegistryTest {
+
+    @InjectMocks
+    private ApplicationIdRegistry applicationIdRegistry;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void Should_AnswerWithoutQuery_When_RequestLoadedApplicationId(){
+        when(applicationRepository.findApplicationIds(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 3L, 5L));
+
+        applicationIdRegistry.load();
+
+        assertThat(applicationIdRegistry.exists(3L)).isTrue();
+        verify(applicationRepository, never()).existsByApplicationId(3L);
+    }
+
+    @Test
+    void Should_AnswerMissWithoutQuery_When_RequestUnknownApplicationId(){
+        when(applicationRepository.findApplicationIds(anyLong(), any(Pageable.class))).thenReturn(List.of(1L));
+
+        applicationIdRegistry.load();
+
+        assertThat(applicationIdRegistry.exists(8L)).isFalse();
+        verify(applicationRepository, never()).existsByApplicationId(anyLong());
+    }
+
+    @Test
+    void Should_CheckDatabase_When_RequestBeforeLoaded(){
+        when(applicationRepository.existsByApplicationId(7L)).thenReturn(true);
+
+        assertThat(applicationIdRegistry.exists(7L)).isTrue();
+    }
+
+    @Test
+    void Should_FollowCreateAndDelete_When_RequestAfterLoaded(){
+        when(applicationRepository.findApplicationIds(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        applicationIdRegistry.load();
+        assertThat(applicationIdRegistry.exists(7L)).isFalse();
+
+        applicationIdRegistry.add(7L);
+        assertThat(applicationIdRegistry.exists(7L)).isTrue();
+
+        applicationIdRegistry.remove(7L);
+        assertThat(applicationIdRegistry.exists(7L)).isFalse();
+        verify(applicationRepository, never()).existsByApplicationId(anyLong());
+    }
+
+    @Test
+    void Should_KeepChangesCommittedDuringReload_When_ReloadScanIsStale(){
+        when(applicationRepository.findApplicationIds(anyLong(), any(Pageable.class))).thenReturn(List.of(3L));
+        applicationIdRegistry.load();
+
+        // 재적재 조회는 3 삭제, 9 생성 커밋 전의 결과를 읽음
+        when(applicationRepository.findApplicationIds(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            applicationIdRegistry.remove(3L);
+            applicationIdRegistry.add(9L);
+            return List.of(3L);
+        });
+        applicationIdRegistry.load();
+
+        assertThat(applicationIdRegistry.exists(3L)).isFalse();
+        assertThat(applicationIdRegistry.exists(9L)).isTrue();
+    }
+}
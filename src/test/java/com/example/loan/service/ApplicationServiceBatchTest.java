@@ -0,0 +1,92 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Terms;
+import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.repository.AcceptTermsRepository;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.TermsRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ApplicationServiceBatchTest {
+
+    private static final int TERMS_COUNT = 15;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TermsRepository termsRepository;
+
+    @Autowired
+    private AcceptTermsRepository acceptTermsRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        acceptTermsRepository.deleteAll();
+        termsRepository.deleteAll();
+        applicationRepository.deleteAll();
+    }
+
+    @Test
+    void Should_InsertAcceptTermsInBatch_When_RequestAcceptTermsOfApplication() {
+        List<Terms> termsList = new ArrayList<>();
+        for (int i = 0; i < TERMS_COUNT; i++) {
+            termsList.add(Terms.builder()
+                    .name("대출 이용 약관 " + i)
+                    .termsDetailUrl("https://abc-storage.acc/terms/" + i)
+                    .build());
+        }
+        List<Long> termsIds = termsRepository.saveAll(termsList).stream()
+                .map(Terms::getTermsId)
+                .collect(Collectors.toList());
+        Long applicationId = applicationRepository.save(Application.builder().name("Member Lee").build()).getApplicationId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        applicationService.acceptTerms(applicationId, ApplicationDTO.AcceptTerms.builder()
+                .acceptTermsIds(termsIds)
+                .build());
+
+        // 신청 조회 + 약관 조회 + 시퀀스 채번 + batch insert, 약관 수와 무관
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TERMS_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void Should_NotDuplicateAcceptTerms_When_RequestAcceptTermsAgain() {
+        Long termsId = termsRepository.save(Terms.builder()
+                .name("대출 이용 약관")
+                .termsDetailUrl("https://abc-storage.acc/terms/0")
+                .build()).getTermsId();
+        Long applicationId = applicationRepository.save(Application.builder().name("Member Lee").build()).getApplicationId();
+
+        ApplicationDTO.AcceptTerms request = ApplicationDTO.AcceptTerms.builder()
+                .acceptTermsIds(List.of(termsId, termsId))
+                .build();
+        applicationService.acceptTerms(applicationId, request);
+        applicationService.acceptTerms(applicationId, request);
+
+        assertThat(acceptTermsRepository.findTermsIdsByApplicationId(applicationId)).containsExactly(termsId);
+    }
+}
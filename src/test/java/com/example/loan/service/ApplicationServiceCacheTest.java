@@ -0,0 +1,108 @@
+package com.example.loan.service;
+
+import com.example.loan.config.CacheConfig;
+import com.example.loan.domain.Application;
+import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.dto.BalanceDTO;
+import com.example.loan.dto.EntryDTO;
+import com.example.loan.dto.RepaymentDTO;
+import com.example.loan.repository.ApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ApplicationServiceCacheTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private EntryService entryService;
+
+    @Autowired
+    private RepaymentService repaymentService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void Should_ReturnCachedApplicationUntilUpdated_When_RequestSameApplicationAgain() {
+        Long applicationId = applicationService.create(ApplicationDTO.Request.builder()
+                .name("Member Han")
+                .build()).getApplicationId();
+
+        ApplicationDTO.Response first = applicationService.get(applicationId);
+        ApplicationDTO.Response second = applicationService.get(applicationId);
+        assertThat(second).isSameAs(first);
+
+        applicationService.update(applicationId, ApplicationDTO.Request.builder()
+                .name("Member Seo")
+                .build());
+
+        ApplicationDTO.Response updated = applicationService.get(applicationId);
+        assertThat(updated).isNotSameAs(first);
+        assertThat(updated.getName()).isEqualTo("Member Seo");
+    }
+
+    @Test
+    void Should_ReturnCurrentBalance_When_RequestBalanceAfterLedgerAppended() {
+        Long applicationId = applicationRepository.save(Application.builder()
+                .name("Member Yoon")
+                .contractedAt(LocalDateTime.now())
+                .status(Application.Status.CONTRACTED)
+                .build()).getApplicationId();
+        assertThat(applicationService.get(applicationId).getStatus()).isEqualTo(Application.Status.CONTRACTED);
+
+        entryService.create(applicationId, EntryDTO.Request.builder()
+                .entryAmount(BigDecimal.valueOf(3000))
+                .build());
+
+        BalanceDTO.Response before = balanceService.get(applicationId);
+        assertThat(balanceService.get(applicationId)).isSameAs(before);
+
+        repaymentService.create(applicationId, RepaymentDTO.Request.builder()
+                .repaymentAmount(BigDecimal.valueOf(1000))
+                .build());
+
+        assertThat(balanceService.get(applicationId).getBalance().toBigDecimal()).isEqualByComparingTo("2000");
+        assertThat(applicationService.get(applicationId).getStatus()).isEqualTo(Application.Status.DISBURSED);
+    }
+
+    @Test
+    void Should_EvictAfterOuterCommit_When_StatusUpdatedInTransaction() {
+        Long applicationId = applicationService.create(ApplicationDTO.Request.builder()
+                .name("Member Jung")
+                .build()).getApplicationId();
+        applicationService.get(applicationId);
+        Cache cache = cacheManager.getCache(CacheConfig.APPLICATION);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationRepository.updateStatus(applicationId, Application.Status.TERMS_ACCEPTED,
+                    EnumSet.of(Application.Status.APPLIED));
+            // 커밋 전에 비우면 다른 요청이 커밋 전 값을 다시 캐시에 넣을 수 있음
+            assertThat(cache.get(applicationId)).isNotNull();
+        });
+
+        assertThat(cache.get(applicationId)).isNull();
+        assertThat(applicationService.get(applicationId).getStatus()).isEqualTo(Application.Status.TERMS_ACCEPTED);
+    }
+}
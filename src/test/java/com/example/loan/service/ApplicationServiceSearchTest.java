@@ -0,0 +1,68 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.dto.PageDTO;
+import com.example.loan.repository.ApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ApplicationServiceSearchTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void Should_ReturnFilteredApplicationsByPage_When_RequestSearchWithCondition() {
+        LocalDateTime now = LocalDateTime.now();
+        applicationRepository.saveAll(List.of(
+                application("Search_A1", BigDecimal.valueOf(1000), now.minusDays(3), now.minusDays(1)),
+                application("Search_A2", BigDecimal.valueOf(2000), now.minusDays(2), null),
+                application("Search_A3", BigDecimal.valueOf(3000), now.minusDays(1), null),
+                application("Search_A4", BigDecimal.valueOf(4000), now.minusDays(10), null),
+                application("SearchXA5", BigDecimal.valueOf(5000), now.minusDays(1), null)));
+
+        ApplicationDTO.SearchCondition condition = ApplicationDTO.SearchCondition.builder()
+                .name("Search_")
+                .contracted(false)
+                .appliedFrom(LocalDate.now().minusDays(5))
+                .appliedTo(LocalDate.now())
+                .build();
+
+        PageDTO<ApplicationDTO.Summary> first = applicationService.search(condition, null, 1);
+        PageDTO<ApplicationDTO.Summary> second = applicationService.search(condition, first.getNextCursor(), 1);
+
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(first.getContent()).extracting(ApplicationDTO.Summary::getName).containsExactly("Search_A3");
+        assertThat(second.getHasNext()).isFalse();
+        assertThat(second.getContent()).extracting(ApplicationDTO.Summary::getName).containsExactly("Search_A2");
+
+        PageDTO<ApplicationDTO.Summary> byAmount = applicationService.search(ApplicationDTO.SearchCondition.builder()
+                .name("Search")
+                .minHopeAmount(BigDecimal.valueOf(1000))
+                .maxHopeAmount(BigDecimal.valueOf(1500))
+                .build(), null, 10);
+        assertThat(byAmount.getContent()).extracting(ApplicationDTO.Summary::getName).containsExactly("Search_A1");
+    }
+
+    private Application application(String name, BigDecimal hopeAmount, LocalDateTime appliedAt, LocalDateTime contractedAt) {
+        return Application.builder()
+                .name(name)
+                .hopeAmount(hopeAmount)
+                .appliedAt(appliedAt)
+                .contractedAt(contractedAt)
+                .build();
+    }
+}
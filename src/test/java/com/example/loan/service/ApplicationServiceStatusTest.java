@@ -0,0 +1,121 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Terms;
+import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.dto.EntryDTO;
+import com.example.loan.dto.JudgmentDTO;
+import com.example.loan.dto.RepaymentDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.TermsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ApplicationServiceStatusTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private JudgmentService judgmentService;
+
+    @Autowired
+    private EntryService entryService;
+
+    @Autowired
+    private RepaymentService repaymentService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TermsRepository termsRepository;
+
+    @Test
+    void Should_MoveStatusAlongLifecycle_When_RequestEachStepInOrder() {
+        Long applicationId = applicationService.create(ApplicationDTO.Request.builder()
+                .name("Member Park")
+                .hopeAmount(BigDecimal.valueOf(5000))
+                .build()).getApplicationId();
+        assertThat(statusOf(applicationId)).isEqualTo(Application.Status.APPLIED);
+
+        // 계약/집행은 한도 부여 전에 불가
+        assertThrows(BaseException.class, () -> applicationService.contract(applicationId));
+        assertThrows(BaseException.class, () -> entryService.create(applicationId, EntryDTO.Request.builder()
+                .entryAmount(BigDecimal.valueOf(5000))
+                .build()));
+
+        List<Long> termsIds = termsRepository.findAll().stream().map(Terms::getTermsId).toList();
+        if (termsIds.isEmpty()) {
+            termsIds = List.of(termsRepository.save(Terms.builder()
+                    .name("대출 이용 약관")
+                    .termsDetailUrl("https://abc-storage.acc/terms")
+                    .build()).getTermsId());
+        }
+        applicationService.acceptTerms(applicationId, ApplicationDTO.AcceptTerms.builder()
+                .acceptTermsIds(new ArrayList<>(termsIds))
+                .build());
+        assertThat(statusOf(applicationId)).isEqualTo(Application.Status.TERMS_ACCEPTED);
+
+        // 심사 이후에는 약관 재동의로 상태를 되돌릴 수 없고, 심사 삭제로만 되돌림
+        Long deletedJudgmentId = judgmentService.create(JudgmentDTO.Request.builder()
+                .applicationId(applicationId)
+                .name("Member Park")
+                .approvalAmount(BigDecimal.valueOf(5000))
+                .build()).getJudgmentId();
+        List<Long> acceptTermsIds = termsIds;
+        assertThrows(BaseException.class, () -> applicationService.acceptTerms(applicationId, ApplicationDTO.AcceptTerms.builder()
+                .acceptTermsIds(new ArrayList<>(acceptTermsIds))
+                .build()));
+        assertThat(statusOf(applicationId)).isEqualTo(Application.Status.JUDGED);
+        judgmentService.delete(deletedJudgmentId);
+        assertThat(statusOf(applicationId)).isEqualTo(Application.Status.TERMS_ACCEPTED);
+
+        Long judgmentId = judgmentService.create(JudgmentDTO.Request.builder()
+                .applicationId(applicationId)
+                .name("Member Park")
+                .approvalAmount(BigDecimal.valueOf(5000))
+                .build()).getJudgmentId();
+        judgmentService.grant(judgmentId);
+        applicationService.contract(applicationId);
+        assertThat(statusOf(applicationId)).isEqualTo(Application.Status.CONTRACTED);
+
+        Long entryId = entryService.create(applicationId, EntryDTO.Request.builder()
+                .entryAmount(BigDecimal.valueOf(5000))
+                .build()).getEntryId();
+        assertThat(statusOf(applicationId)).isEqualTo(Application.Status.DISBURSED);
+
+        // 집행 취소 시 계약 상태로 돌아가 다시 집행
+        entryService.delete(entryId);
+        assertThat(statusOf(applicationId)).isEqualTo(Application.Status.CONTRACTED);
+
+        entryService.create(applicationId, EntryDTO.Request.builder()
+                .entryAmount(BigDecimal.valueOf(5000))
+                .build());
+        assertThat(statusOf(applicationId)).isEqualTo(Application.Status.DISBURSED);
+
+        repaymentService.create(applicationId, RepaymentDTO.Request.builder()
+                .repaymentAmount(BigDecimal.valueOf(5000))
+                .build());
+        assertThat(statusOf(applicationId)).isEqualTo(Application.Status.REPAID);
+
+        // 상환 완료 후 추가 상환 불가
+        assertThrows(BaseException.class, () -> repaymentService.create(applicationId, RepaymentDTO.Request.builder()
+                .repaymentAmount(BigDecimal.valueOf(1000))
+                .build()));
+    }
+
+    private Application.Status statusOf(Long applicationId) {
+        return applicationRepository.findById(applicationId).orElseThrow().getStatus();
+    }
+}
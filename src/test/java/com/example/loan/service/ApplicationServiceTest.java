@@ -1,13 +1,10 @@
 package com.example.loan.service;
 
-import com.example.loan.domain.AcceptTerms;
 import com.example.loan.domain.Application;
 import com.example.loan.domain.Terms;
 import com.example.loan.dto.ApplicationDTO;
 import com.example.loan.exception.BaseException;
-import com.example.loan.repository.AcceptTermsRepository;
 import com.example.loan.repository.ApplicationRepository;
-import com.example.loan.repository.TermsRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,15 +12,18 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,10 +36,13 @@ class ApplicationServiceTest {
     private ApplicationRepository applicationRepository;
 
     @Mock
-    private TermsRepository termsRepository;
+    private TermsCatalog termsCatalog;
 
     @Mock
-    private AcceptTermsRepository acceptTermsRepository;
+    private AcceptTermsStore acceptTermsStore;
+
+    @Mock
+    private CustomerIdentityService customerIdentityService;
 
     @Spy
     private ModelMapper modelMapper;
@@ -144,12 +147,13 @@ class ApplicationServiceTest {
 
         Long findId = 1L;
 
-        when(applicationRepository.findById(findId)).thenReturn(Optional.ofNullable(Application.builder().build()));
-        when(termsRepository.findAll(Sort.by(Sort.Direction.ASC, "termsId"))).thenReturn(Arrays.asList(entityA, entityB));
-        when(acceptTermsRepository.save(any(AcceptTerms.class))).thenReturn(AcceptTerms.builder().build());
+        when(termsCatalog.current()).thenReturn(TermsCatalog.Snapshot.of(1L, Arrays.asList(entityA, entityB)));
+        when(applicationRepository.updateStatus(findId, Application.Status.TERMS_ACCEPTED, EnumSet.of(Application.Status.APPLIED))).thenReturn(1);
 
         Boolean actual = applicationService.acceptTerms(findId, request);
         assertThat(actual).isTrue();
+        verify(applicationRepository).updateStatus(findId, Application.Status.TERMS_ACCEPTED, EnumSet.of(Application.Status.APPLIED));
+        verify(acceptTermsStore).save(eq(findId), any(TermsCatalog.Snapshot.class), eq(BitSet.valueOf(new long[]{0b11})), eq(true));
     }
 
     @Test
@@ -174,8 +178,7 @@ class ApplicationServiceTest {
 
         Long findId = 1L;
 
-        when(applicationRepository.findById(findId)).thenReturn(Optional.ofNullable(Application.builder().build()));
-        when(termsRepository.findAll(Sort.by(Sort.Direction.ASC, "termsId"))).thenReturn(Arrays.asList(entityA, entityB));
+        when(termsCatalog.current()).thenReturn(TermsCatalog.Snapshot.of(1L, Arrays.asList(entityA, entityB)));
 
         assertThrows(BaseException.class, () -> applicationService.acceptTerms(1L, request));
     }
@@ -202,8 +205,7 @@ class ApplicationServiceTest {
 
         Long findId = 1L;
 
-        when(applicationRepository.findById(findId)).thenReturn(Optional.ofNullable(Application.builder().build()));
-        when(termsRepository.findAll(Sort.by(Sort.Direction.ASC, "termsId"))).thenReturn(Arrays.asList(entityA, entityB));
+        when(termsCatalog.current()).thenReturn(TermsCatalog.Snapshot.of(1L, Arrays.asList(entityA, entityB)));
 
         assertThrows(BaseException.class, () -> applicationService.acceptTerms(1L, request));
     }
@@ -0,0 +1,90 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.JudgmentDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncJudgmentServiceTest {
+
+    @Mock
+    private JudgmentService judgmentService;
+
+    private AsyncJudgmentServiceImpl asyncJudgmentService;
+
+    @BeforeEach
+    void setUp() {
+        asyncJudgmentService = new AsyncJudgmentServiceImpl(judgmentService);
+        ReflectionTestUtils.setField(asyncJudgmentService, "concurrency", 1);
+        ReflectionTestUtils.setField(asyncJudgmentService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(asyncJudgmentService, "ticketTtlSeconds", 60L);
+        ReflectionTestUtils.setField(asyncJudgmentService, "sseTimeout", 1000L);
+        asyncJudgmentService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncJudgmentService.shutdown();
+    }
+
+    @Test
+    void Should_RejectWithRetryHint_When_QueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(judgmentService.create(any(JudgmentDTO.Request.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return JudgmentDTO.Response.builder().judgmentId(1L).build();
+        });
+
+        JudgmentDTO.Request request = JudgmentDTO.Request.builder().applicationId(1L).build();
+        JudgmentDTO.Ticket running = asyncJudgmentService.submit(request);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        JudgmentDTO.Ticket queued = asyncJudgmentService.submit(request);
+
+        // worker 1 개 + 대기열 1 개가 모두 찼으므로 거절
+        TooManyRequestsException rejected = assertThrows(TooManyRequestsException.class, () -> asyncJudgmentService.submit(request));
+        assertThat(rejected.getRetryAfterSeconds()).isPositive();
+        assertThat(asyncJudgmentService.get(queued.getTicketId()).getStatus()).isEqualTo(JudgmentDTO.TicketStatus.PENDING);
+
+        release.countDown();
+
+        assertThat(awaitFinished(running.getTicketId()).getJudgment().getJudgmentId()).isEqualTo(1L);
+        assertThat(awaitFinished(queued.getTicketId()).getStatus()).isEqualTo(JudgmentDTO.TicketStatus.DONE);
+    }
+
+    @Test
+    void Should_MarkTicketFailed_When_JudgmentFails() throws InterruptedException {
+        when(judgmentService.create(any(JudgmentDTO.Request.class))).thenThrow(new BaseException());
+
+        JudgmentDTO.Ticket ticket = asyncJudgmentService.submit(JudgmentDTO.Request.builder().applicationId(1L).build());
+
+        assertThat(awaitFinished(ticket.getTicketId()).getStatus()).isEqualTo(JudgmentDTO.TicketStatus.FAILED);
+    }
+
+    private JudgmentDTO.Ticket awaitFinished(String ticketId) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            JudgmentDTO.Ticket ticket = asyncJudgmentService.get(ticketId);
+            if (ticket.getStatus() == JudgmentDTO.TicketStatus.DONE || ticket.getStatus() == JudgmentDTO.TicketStatus.FAILED) {
+                return ticket;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("ticket not finished: " + ticketId);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Judgment;
+import com.example.loan.dto.JudgmentDTO;
+import com.example.loan.dto.ResultObject;
+import com.example.loan.exception.BaseException;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.JudgmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class AutoJudgmentServiceTest {
+
+    private static final int APPLICATION_COUNT = 23;
+
+    @Autowired
+    private AutoJudgmentService autoJudgmentService;
+
+    @Autowired
+    private JudgmentService judgmentService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JudgmentRepository judgmentRepository;
+
+    @Test
+    void Should_JudgeAllPendingApplicationsInParallelBatches_When_RequestBatchJudgment() {
+        AutoJudgmentServiceImpl target = AopTestUtils.getTargetObject(autoJudgmentService);
+        ReflectionTestUtils.setField(target, "batchSize", 5);
+
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            applicationIds.add(applicationRepository.save(Application.builder()
+                    .name("Member " + i)
+                    .cellPhone("010-9999-" + String.format("%04d", i))
+                    .hopeAmount(BigDecimal.valueOf(5_000_000L * (i + 1)))
+                    .annualIncome(BigDecimal.valueOf(60_000_000))
+                    .existingDebt(BigDecimal.valueOf(1_000_000L * i))
+                    .status(Application.Status.TERMS_ACCEPTED)
+                    .build()).getApplicationId());
+        }
+        Long appliedId = applicationRepository.save(Application.builder()
+                .name("Member Kim")
+                .hopeAmount(BigDecimal.valueOf(5_000_000))
+                .build()).getApplicationId();
+
+        JudgmentDTO.BatchResponse actual = autoJudgmentService.judgeAll();
+
+        assertThat(actual.getJudgedCount()).isGreaterThanOrEqualTo(APPLICATION_COUNT);
+        assertThat(actual.getRuleVersion()).isNotNull();
+        for (Long applicationId : applicationIds) {
+            assertThat(applicationRepository.findById(applicationId).get().getStatus()).isEqualTo(Application.Status.JUDGED);
+            assertThat(judgmentRepository.findByApplicationId(applicationId)).isPresent();
+        }
+
+        // 1억 초과 신청은 거절로 기록되고 한도 부여 불가
+        Judgment rejected = judgmentRepository.findByApplicationId(applicationIds.get(APPLICATION_COUNT - 1)).get();
+        assertThat(rejected.getRejected()).isTrue();
+        assertThat(rejected.getApprovalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThrows(BaseException.class, () -> judgmentService.grant(rejected.getJudgmentId()));
+        assertThat(judgmentService.grantAll(List.of(rejected.getJudgmentId())).get(0).getResult().getCode())
+                .isNotEqualTo(ResultObject.getSuccess().getCode());
+        assertThat(applicationRepository.findById(rejected.getApplicationId()).get().getStatus())
+                .isEqualTo(Application.Status.JUDGED);
+        assertThat(judgmentRepository.findByApplicationId(applicationIds.get(0)).get().getRejected()).isFalse();
+
+        // 약관 동의 전 신청은 대상 아님
+        assertThat(judgmentRepository.findByApplicationId(appliedId)).isEmpty();
+        assertThrows(BaseException.class, () -> autoJudgmentService.judge(appliedId));
+    }
+
+    @Test
+    void Should_ReduceApprovalAmount_When_RepeatApplicant() {
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            applicationIds.add(applicationRepository.save(Application.builder()
+                    .name("Member Lee")
+                    .cellPhone("010-8888-0000")
+                    .hopeAmount(BigDecimal.valueOf(10_000_000))
+                    .annualIncome(BigDecimal.valueOf(60_000_000))
+                    .existingDebt(BigDecimal.ZERO)
+                    .status(Application.Status.TERMS_ACCEPTED)
+                    .build()).getApplicationId());
+        }
+
+        JudgmentDTO.Response actual = autoJudgmentService.judge(applicationIds.get(3));
+
+        assertThat(actual.getName()).isEqualTo("AUTO");
+        assertThat(actual.getApprovalAmount()).isEqualByComparingTo(BigDecimal.valueOf(5_000_000));
+        assertThat(actual.getApprovalInterestRate()).isEqualByComparingTo("0.0790");
+        assertThat(applicationRepository.findById(applicationIds.get(3)).get().getStatus()).isEqualTo(Application.Status.JUDGED);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Balance;
+import com.example.loan.domain.BalanceLedger;
+import com.example.loan.domain.Money;
+import com.example.loan.dto.BalanceDTO;
+import com.example.loan.repository.BalanceLedgerRepository;
+import com.example.loan.repository.BalanceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BalanceServiceConcurrencyTest {
+
+    private static final int REPAYMENT_COUNT = 2000;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private BalanceRepository balanceRepository;
+
+    @Autowired
+    private BalanceLedgerRepository balanceLedgerRepository;
+
+    @AfterEach
+    void tearDown() {
+        balanceLedgerRepository.deleteAll();
+        balanceRepository.deleteAll();
+    }
+
+    @Test
+    void Should_KeepEveryRepayment_When_RequestParallelRepaymentsOfSameApplication() throws Exception {
+        Long applicationId = 1L;
+
+        balanceService.create(applicationId, BalanceDTO.CreateRequest.builder()
+                .entryAmount(BigDecimal.valueOf(1000000))
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Callable<BalanceDTO.Response>> tasks = new ArrayList<>();
+        for (int i = 0; i < REPAYMENT_COUNT; i++) {
+            tasks.add(() -> balanceService.append(applicationId,
+                    BalanceDTO.LedgerRequest.builder()
+                            .type(BalanceLedger.LedgerType.REPAYMENT_CREATE)
+                            .amount(Money.ofMinor(-10000))
+                            .build()));
+        }
+
+        try {
+            for (Future<BalanceDTO.Response> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        BalanceDTO.Response actual = balanceService.get(applicationId);
+
+        assertThat(actual.getBalance()).isEqualTo(Money.of(BigDecimal.valueOf(800000)));
+    }
+
+    @Test
+    void Should_RollLedgerIntoSnapshot_When_Compacted() {
+        Long applicationId = 2L;
+
+        balanceService.create(applicationId, BalanceDTO.CreateRequest.builder()
+                .entryAmount(BigDecimal.valueOf(50000))
+                .build());
+        balanceService.append(applicationId, BalanceDTO.LedgerRequest.builder()
+                .type(BalanceLedger.LedgerType.REPAYMENT_CREATE)
+                .amount(Money.of(BigDecimal.valueOf(-10000)))
+                .build());
+
+        balanceService.compact();
+
+        Balance snapshot = balanceRepository.findByApplicationId(applicationId).orElseThrow();
+
+        assertThat(snapshot.getBalance()).isEqualTo(Money.of(BigDecimal.valueOf(40000)));
+        assertThat(balanceLedgerRepository.findUncompactedLedgers(applicationId)).isEmpty();
+        assertThat(balanceService.get(applicationId).getBalance()).isEqualTo(Money.of(BigDecimal.valueOf(40000)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.dto.UploadDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.repository.ApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "loan.upload.buffer-size=1024")
+class ChunkedUploadServiceTest {
+
+    @TempDir
+    static Path uploadPath;
+
+    @DynamicPropertySource
+    static void uploadPath(DynamicPropertyRegistry registry) {
+        registry.add("spring.servlet.multipart.location", uploadPath::toString);
+    }
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void Should_ResumeFromReceivedOffsetAndMoveFile_When_ChunkInterrupted() throws IOException {
+        Long applicationId = applicationRepository.save(Application.builder().name("Member Lee").build()).getApplicationId();
+        byte[] content = new byte[10000];
+        new Random(1).nextBytes(content);
+
+        UploadDTO.Response upload = chunkedUploadService.init(applicationId, UploadDTO.Request.builder()
+                .fileName("income.pdf")
+                .size((long) content.length)
+                .build());
+        String uploadId = upload.getUploadId();
+
+        // 3000 바이트를 보낸 뒤 연결이 끊긴 chunk
+        assertThrows(BaseException.class, () -> chunkedUploadService.append(applicationId, uploadId, 0,
+                interruptedAfter(Arrays.copyOfRange(content, 0, 3000))));
+        long offset = chunkedUploadService.get(applicationId, uploadId).getOffset();
+        assertThat(offset).isEqualTo(3000);
+
+        // 받은 위치가 아닌 offset 은 거절
+        assertThrows(BaseException.class, () -> chunkedUploadService.append(applicationId, uploadId, 0,
+                new ByteArrayInputStream(content)));
+        assertThrows(BaseException.class, () -> chunkedUploadService.complete(applicationId, uploadId));
+
+        UploadDTO.Response appended = chunkedUploadService.append(applicationId, uploadId, offset,
+                new ByteArrayInputStream(Arrays.copyOfRange(content, (int) offset, content.length)));
+        assertThat(appended.getOffset()).isEqualTo(content.length);
+
+        UploadDTO.Response completed = chunkedUploadService.complete(applicationId, uploadId);
+
+        assertThat(completed.getCompleted()).isTrue();
+        assertThat(Files.readAllBytes(uploadPath.resolve(String.valueOf(applicationId)).resolve("income.pdf"))).isEqualTo(content);
+        assertThrows(BaseException.class, () -> chunkedUploadService.get(applicationId, uploadId));
+    }
+
+    @Test
+    void Should_ThrowException_When_ChunkExceedsUploadSize() {
+        Long applicationId = applicationRepository.save(Application.builder().name("Member Kim").build()).getApplicationId();
+        UploadDTO.Response upload = chunkedUploadService.init(applicationId, UploadDTO.Request.builder()
+                .fileName("statement.pdf")
+                .size(100L)
+                .build());
+
+        assertThrows(BaseException.class, () -> chunkedUploadService.append(applicationId, upload.getUploadId(), 0,
+                new ByteArrayInputStream(new byte[101])));
+    }
+
+    @Test
+    void Should_KeepExistingFile_When_CompleteUploadOfSameFileName() throws IOException {
+        Long applicationId = applicationRepository.save(Application.builder().name("Member Park").build()).getApplicationId();
+        Path existing = uploadPath.resolve(String.valueOf(applicationId)).resolve("contract.pdf");
+        Files.createDirectories(existing.getParent());
+        Files.write(existing, new byte[]{1, 2, 3});
+
+        UploadDTO.Response upload = chunkedUploadService.init(applicationId, UploadDTO.Request.builder()
+                .fileName("contract.pdf")
+                .size(10L)
+                .build());
+        // 대문자로 보내도 같은 업로드
+        String uploadId = upload.getUploadId().toUpperCase();
+        chunkedUploadService.append(applicationId, uploadId, 0, new ByteArrayInputStream(new byte[10]));
+        assertThat(chunkedUploadService.get(applicationId, uploadId).getOffset()).isEqualTo(10);
+
+        assertThrows(BaseException.class, () -> chunkedUploadService.complete(applicationId, uploadId));
+
+        assertThat(Files.readAllBytes(existing)).containsExactly(1, 2, 3);
+        assertThat(chunkedUploadService.get(applicationId, upload.getUploadId()).getOffset()).isEqualTo(10);
+    }
+
+    private InputStream interruptedAfter(byte[] sent) {
+        return new InputStream() {
+            private int position;
+
+            @Override
+            public int read() throws IOException {
+                if (position == sent.length) {
+                    throw new IOException("connection reset");
+                }
+                return sent[position++] & 0xFF;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Counsel;
+import com.example.loan.repository.CounselRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class CounselSearchIndexTest {
+
+    @InjectMocks
+    private CounselSearchIndex counselSearchIndex;
+
+    @Mock
+    private CounselRepository counselRepository;
+
+    @Test
+    void Should_ReturnUnigramsAndCrossSpaceBigrams_When_TokenizeKoreanText() {
+        assertThat(CounselSearchIndex.tokenize("강남구, A"))
+                .containsExactly("강", "강남", "남", "남구", "구", "구a", "a");
+    }
+
+    @Test
+    void Should_ReturnBigramsPerWord_When_TokenizeQuery() {
+        assertThat(CounselSearchIndex.queryTermsOf("시강남 구"))
+                .containsExactly("시강", "강남", "구");
+    }
+
+    @Test
+    void Should_KeepAscendingOrder_When_AddIdsOutOfOrderToPostingList() {
+        CounselSearchIndex.PostingList postingList = new CounselSearchIndex.PostingList();
+        postingList.add(3);
+        postingList.add(300);
+        postingList.add(70000);
+        postingList.add(150);
+        postingList.add(300);
+        postingList.add(1);
+        postingList.add(69999);
+
+        assertThat(postingList.toArray()).containsExactly(1, 3, 150, 300, 69999, 70000);
+    }
+
+    @Test
+    void Should_ReturnCandidatesContainingAllTerms_When_SearchIndexedCounsels() {
+        counselSearchIndex.add(Counsel.builder().counselId(1L).name("이재훈").address("서울시 강남구").build());
+        counselSearchIndex.add(Counsel.builder().counselId(2L).name("김철수").address("서울시 서초구").build());
+        counselSearchIndex.add(Counsel.builder().counselId(3L).name("박영희").memo("강남 아파트 담보").build());
+
+        assertThat(counselSearchIndex.search("서울")).containsExactly(1, 2);
+        assertThat(counselSearchIndex.search("강남")).containsExactly(1, 3);
+        assertThat(counselSearchIndex.search("강남 아파트")).containsExactly(3);
+        assertThat(counselSearchIndex.search("부산")).isEmpty();
+        // 한 글자 검색과 띄어쓰기를 넘는 검색
+        assertThat(counselSearchIndex.search("초")).containsExactly(2);
+        assertThat(counselSearchIndex.search("시강남")).containsExactly(1);
+    }
+
+    @Test
+    void Should_FindByNewText_When_CounselUpdated() {
+        Counsel counsel = Counsel.builder().counselId(5L).name("최민수").memo("전세 자금").build();
+        counselSearchIndex.add(counsel);
+        counselSearchIndex.add(Counsel.builder().counselId(9L).name("한지민").memo("신용 대출").build());
+
+        Set<String> previousTerms = counselSearchIndex.termsOf(counsel);
+        counsel.setMemo("신용 대출 상담");
+        counselSearchIndex.update(counsel, previousTerms);
+
+        assertThat(counselSearchIndex.search("신용 대출")).containsExactly(5, 9);
+        assertThat(counselSearchIndex.search("상담")).containsExactly(5);
+    }
+
+    @Test
+    void Should_ExcludeCounsel_When_RemovedFromIndex() {
+        counselSearchIndex.add(Counsel.builder().counselId(1L).name("이재훈").address("서울시 강남구").build());
+        counselSearchIndex.add(Counsel.builder().counselId(2L).name("김철수").address("서울시 서초구").build());
+
+        counselSearchIndex.remove(1L);
+
+        assertThat(counselSearchIndex.search("서울")).containsExactly(2);
+    }
+}
@@ -29,6 +29,15 @@ class CounselServiceTest {
     @Mock
     private CounselRepository counselRepository;
 
+    @Mock
+    private CounselIntake counselIntake;
+
+    @Mock
+    private CounselSearchIndex counselSearchIndex;
+
+    @Mock
+    private CustomerIdentityService customerIdentityService;
+
     @Spy
     private ModelMapper modelMapper;
 
@@ -54,7 +63,7 @@ class CounselServiceTest {
                 .addressDetail("What Apartment No. 101, 1st floor No. 101")
                 .build();
 
-        when(counselRepository.save(any(Counsel.class))).thenReturn(entity);
+        when(counselIntake.accept(any(Counsel.class))).thenReturn(entity);
         CounselDTO.Response actual = counselService.create(request);
         assertThat(actual.getName()).isSameAs(entity.getName());
     }
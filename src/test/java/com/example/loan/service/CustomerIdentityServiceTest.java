@@ -0,0 +1,77 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.dto.CounselDTO;
+import com.example.loan.dto.CustomerDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CustomerIdentityServiceTest {
+
+    @Autowired
+    private CustomerIdentityService customerIdentityService;
+
+    @Autowired
+    private CounselService counselService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Test
+    void Should_ReturnCounselsAndApplicationsOfCustomer_When_PhoneFormatsDiffer() {
+        CounselDTO.Response counsel = counselService.create(CounselDTO.Request.builder()
+                .name("Member Lee")
+                .cellPhone("010-7351-0001")
+                .build());
+        ApplicationDTO.Response application = applicationService.create(ApplicationDTO.Request.builder()
+                .name("Member Lee")
+                .cellPhone("+821073510001")
+                .email("Lee.7351@abc.de")
+                .hopeAmount(BigDecimal.valueOf(10000000))
+                .build());
+
+        CustomerDTO.History actual = customerIdentityService.getHistory(null, "lee.7351@ABC.de ");
+
+        assertThat(application.getCustomerKey()).isEqualTo(counsel.getCustomerKey());
+        assertThat(actual.getCustomerKey()).isEqualTo(counsel.getCustomerKey());
+        assertThat(actual.getCounsels()).extracting(CounselDTO.Response::getCounselId).containsExactly(counsel.getCounselId());
+        assertThat(actual.getApplications()).extracting(ApplicationDTO.Response::getApplicationId).containsExactly(application.getApplicationId());
+    }
+
+    @Test
+    void Should_ReturnInProgressApplication_When_SameCustomerAppliesAgain() {
+        ApplicationDTO.Response first = applicationService.create(ApplicationDTO.Request.builder()
+                .name("Member Kim")
+                .cellPhone("010-7351-0002")
+                .build());
+        ApplicationDTO.Response second = applicationService.create(ApplicationDTO.Request.builder()
+                .name("Member Kim")
+                .cellPhone("01073510002")
+                .build());
+
+        assertThat(first.getDuplicateApplicationId()).isNull();
+        assertThat(second.getDuplicateApplicationId()).isEqualTo(first.getApplicationId());
+    }
+
+    @Test
+    void Should_LinkSameCustomerInBatch_When_ResolveAllContacts() {
+        List<String> actual = customerIdentityService.resolveAll(List.of(
+                CustomerDTO.Contact.builder().cellPhone("010-7351-0003").email("park.7351@abc.de").build(),
+                CustomerDTO.Contact.builder().cellPhone("010-7351-0004").email("PARK.7351@abc.de").build(),
+                CustomerDTO.Contact.builder().build(),
+                CustomerDTO.Contact.builder().cellPhone("010-7351-0005").build()));
+
+        assertThat(actual).hasSize(4);
+        assertThat(actual.get(1)).isEqualTo(actual.get(0));
+        assertThat(actual.get(2)).isNull();
+        assertThat(actual.get(3)).isNotNull().isNotEqualTo(actual.get(0));
+        assertThat(customerIdentityService.resolve("01073510004", null)).isEqualTo(actual.get(0));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Repayment;
+import com.example.loan.repository.RepaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private RepaymentRepository repaymentRepository;
+
+    @Test
+    void Should_WriteHeaderAndRowsOfRange_When_ExportRepaymentsAsCsv() {
+        List<Repayment> saved = saveRepayments(8101L, 3);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportService.exportRepayments(LocalDate.now(), LocalDate.now(), ExportService.Format.CSV, false, outputStream);
+
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.get(0)).isEqualTo("repaymentId,applicationId,repaymentAmount,createdAt");
+        assertThat(lines).anyMatch(line -> line.startsWith(saved.get(2).getRepaymentId() + ",8101,300"));
+
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        exportService.exportRepayments(LocalDate.now().minusDays(2), LocalDate.now().minusDays(1), ExportService.Format.CSV, false, empty);
+        assertThat(empty.toString(StandardCharsets.UTF_8).lines()).hasSize(1);
+    }
+
+    @Test
+    void Should_WriteOneJsonPerLine_When_ExportRepaymentsAsGzipNdjson() throws IOException {
+        saveRepayments(8102L, 2);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportService.exportRepayments(null, null, ExportService.Format.NDJSON, true, outputStream);
+
+        String text;
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            text = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<String> lines = text.lines().filter(line -> line.contains("\"applicationId\":8102")).toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}"));
+    }
+
+    private List<Repayment> saveRepayments(Long applicationId, int count) {
+        return repaymentRepository.saveAll(LongStream.rangeClosed(1, count)
+                .mapToObj(i -> Repayment.builder()
+                        .applicationId(applicationId)
+                        .repaymentAmount(BigDecimal.valueOf(i * 100))
+                        .build())
+                .toList());
+    }
+}
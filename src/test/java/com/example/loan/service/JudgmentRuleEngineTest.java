@@ -0,0 +1,108 @@
+package com.example.loan.service;
+
+import com.example.loan.exception.BaseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JudgmentRuleEngineTest {
+
+    private JudgmentRuleEngine judgmentRuleEngine;
+
+    @BeforeEach
+    void setUp() {
+        judgmentRuleEngine = new JudgmentRuleEngine(new DefaultResourceLoader(), new ObjectMapper());
+        ReflectionTestUtils.setField(judgmentRuleEngine, "rulesLocation", "classpath:judgment-rules.json");
+        judgmentRuleEngine.reload();
+    }
+
+    @Test
+    void Should_ApplyHopeAmountAndDebtToIncomeBand_When_EvaluateApplication() {
+        // 1천만원 이하 구간 100%, DTI 20% 구간 100%
+        JudgmentRuleEngine.Decision decision = judgmentRuleEngine.evaluate(10_000_000, 0, 50_000_000, 10_000_000);
+
+        assertThat(decision.approved()).isTrue();
+        assertThat(decision.approvalAmount()).isEqualTo(10_000_000);
+        assertThat(decision.getApprovalInterestRate()).isEqualByComparingTo("0.0590");
+
+        // 3천만원 이하 구간 90%, DTI 40% 구간 70% + 1.5%p, 만원 단위 절사
+        decision = judgmentRuleEngine.evaluate(20_001_234, 0, 50_000_000, 20_000_000);
+
+        assertThat(decision.approvalAmount()).isEqualTo(12_600_000);
+        assertThat(decision.getApprovalInterestRate()).isEqualByComparingTo("0.0800");
+    }
+
+    @Test
+    void Should_Reject_When_HopeAmountOrDebtToIncomeIsOverLimit() {
+        assertThat(judgmentRuleEngine.evaluate(100_000_001, 0, 50_000_000, 0).approved()).isFalse();
+        assertThat(judgmentRuleEngine.evaluate(10_000_000, 0, 50_000_000, 40_000_000).approved()).isFalse();
+    }
+
+    @Test
+    void Should_ReduceApproval_When_RepeatApplicantWithoutIncome() {
+        // 재신청 50% + 2%p, 소득 정보 없음 50% + 2%p
+        JudgmentRuleEngine.Decision decision = judgmentRuleEngine.evaluate(10_000_000, 3, 0, 0);
+
+        assertThat(decision.approvalAmount()).isEqualTo(2_500_000);
+        assertThat(decision.getApprovalInterestRate()).isEqualByComparingTo("0.0990");
+    }
+
+    @Test
+    void Should_ReloadRules_When_RuleFileIsModified(@TempDir Path tempDir) throws IOException {
+        Path rules = tempDir.resolve("judgment-rules.json");
+        Files.writeString(rules, rulesOf("v1", "1.0"));
+        ReflectionTestUtils.setField(judgmentRuleEngine, "rulesLocation", rules.toUri().toString());
+        judgmentRuleEngine.reload();
+        assertThat(judgmentRuleEngine.evaluate(10_000_000, 0, 0, 0).approvalAmount()).isEqualTo(10_000_000);
+
+        Files.writeString(rules, rulesOf("v2", "0.5"));
+        rules.toFile().setLastModified(rules.toFile().lastModified() + 1000);
+        judgmentRuleEngine.reloadIfModified();
+
+        assertThat(judgmentRuleEngine.version()).isEqualTo("v2");
+        assertThat(judgmentRuleEngine.evaluate(10_000_000, 0, 0, 0).approvalAmount()).isEqualTo(5_000_000);
+
+        // 잘못된 룰은 무시하고 기존 룰 유지
+        Files.writeString(rules, "{\"version\": \"v3\"}");
+        rules.toFile().setLastModified(rules.toFile().lastModified() + 1000);
+        judgmentRuleEngine.reloadIfModified();
+
+        assertThat(judgmentRuleEngine.version()).isEqualTo("v2");
+    }
+
+    @Test
+    void Should_KeepPreviousRules_When_BandThresholdIsOutOfRange(@TempDir Path tempDir) throws IOException {
+        Path rules = tempDir.resolve("judgment-rules.json");
+        Files.writeString(rules, rulesOf("v1", "1.0"));
+        ReflectionTestUtils.setField(judgmentRuleEngine, "rulesLocation", rules.toUri().toString());
+        judgmentRuleEngine.reload();
+
+        // long 범위를 넘는 구간 상한
+        Files.writeString(rules, "{\"version\": \"v2\", \"amountUnit\": 10000, \"maxInterestRate\": 0.2, "
+                + "\"hopeAmountBands\": [{\"upTo\": 1e30, \"approvalRatio\": 1.0, \"interestRate\": 0.05}], "
+                + "\"debtToIncomeBands\": [{\"approvalRatio\": 1.0}]}");
+        rules.toFile().setLastModified(rules.toFile().lastModified() + 1000);
+
+        assertThrows(BaseException.class, () -> judgmentRuleEngine.reload());
+        judgmentRuleEngine.reloadIfModified();
+
+        assertThat(judgmentRuleEngine.version()).isEqualTo("v1");
+        assertThat(judgmentRuleEngine.evaluate(10_000_000, 0, 0, 0).approvalAmount()).isEqualTo(10_000_000);
+    }
+
+    private String rulesOf(String version, String approvalRatio) {
+        return "{\"version\": \"" + version + "\", \"amountUnit\": 10000, \"maxInterestRate\": 0.2, "
+                + "\"hopeAmountBands\": [{\"approvalRatio\": " + approvalRatio + ", \"interestRate\": 0.05}], "
+                + "\"debtToIncomeBands\": [{\"approvalRatio\": 1.0}]}";
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Judgment;
+import com.example.loan.dto.JudgmentDTO;
+import com.example.loan.dto.ResultObject;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.JudgmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JudgmentServiceGrantTest {
+
+    @Autowired
+    private JudgmentService judgmentService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JudgmentRepository judgmentRepository;
+
+    @Test
+    void Should_GrantValidJudgmentsAndReportFailures_When_RequestBulkGrant() {
+        Long judgedA = judgmentOf(Application.Status.JUDGED, 3_000_000);
+        Long judgedB = judgmentOf(Application.Status.JUDGED, 5_000_000);
+        Long applied = judgmentOf(Application.Status.APPLIED, 7_000_000);
+        Long notExist = Long.MAX_VALUE;
+
+        List<JudgmentDTO.GrantResponse> actual = judgmentService.grantAll(List.of(judgedA, applied, notExist, judgedB, judgedA));
+
+        String success = ResultObject.getSuccess().getCode();
+        assertThat(actual).extracting(JudgmentDTO.GrantResponse::getJudgmentId)
+                .containsExactly(judgedA, applied, notExist, judgedB, judgedA);
+        assertThat(actual.get(0).getResult().getCode()).isEqualTo(success);
+        assertThat(actual.get(1).getResult().getCode()).isNotEqualTo(success);
+        assertThat(actual.get(2).getResult().getCode()).isNotEqualTo(success);
+        assertThat(actual.get(3).getResult().getCode()).isEqualTo(success);
+        assertThat(actual.get(4).getResult().getCode()).isNotEqualTo(success);
+
+        Application grantedA = applicationRepository.findById(actual.get(0).getApplicationId()).get();
+        assertThat(grantedA.getStatus()).isEqualTo(Application.Status.GRANTED);
+        assertThat(grantedA.getApprovalAmount()).isEqualByComparingTo(BigDecimal.valueOf(3_000_000));
+
+        Application grantedB = applicationRepository.findById(actual.get(3).getApplicationId()).get();
+        assertThat(grantedB.getApprovalAmount()).isEqualByComparingTo(BigDecimal.valueOf(5_000_000));
+
+        Application notGranted = applicationRepository.findById(actual.get(1).getApplicationId()).get();
+        assertThat(notGranted.getStatus()).isEqualTo(Application.Status.APPLIED);
+        assertThat(notGranted.getApprovalAmount()).isNull();
+    }
+
+    private Long judgmentOf(Application.Status status, long approvalAmount) {
+        Long applicationId = applicationRepository.save(Application.builder()
+                .name("Member Lee")
+                .status(status)
+                .build()).getApplicationId();
+        return judgmentRepository.save(Judgment.builder()
+                .applicationId(applicationId)
+                .name("Member Kim")
+                .approvalAmount(BigDecimal.valueOf(approvalAmount))
+                .build()).getJudgmentId();
+    }
+}
@@ -17,6 +17,7 @@ import java.math.BigDecimal;
 import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +32,12 @@ class JudgmentServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private ScheduleService scheduleService;
+
+    @Mock
+    private ApplicationIdRegistry applicationIdRegistry;
+
     @Spy
     private ModelMapper modelMapper;
 
@@ -42,18 +49,12 @@ class JudgmentServiceTest {
                 .approvalAmount(BigDecimal.valueOf(50000000))
                 .build();
 
-        Application applicationEntity = Application.builder()
-                .applicationId(1L)
-                .build();
-
         JudgmentDTO.Request request = JudgmentDTO.Request.builder()
                 .applicationId(1L)
                 .name("Member Kim")
                 .approvalAmount(BigDecimal.valueOf(50000000))
                 .build();
 
-        // application find
-        when(applicationRepository.findById(1L)).thenReturn(Optional.ofNullable(applicationEntity));
         // judgment save
         when(judgmentRepository.save(any(Judgment.class))).thenReturn(judgmentEntity);
 
@@ -63,6 +64,7 @@ class JudgmentServiceTest {
         assertThat(actual.getName()).isSameAs(judgmentEntity.getName());
         assertThat(actual.getApplicationId()).isSameAs(judgmentEntity.getApplicationId());
         assertThat(actual.getApprovalAmount()).isSameAs(judgmentEntity.getApprovalAmount());
+        verify(applicationRepository).transit(1L, Application.Status.JUDGED);
     }
 
     @Test
@@ -88,11 +90,7 @@ class JudgmentServiceTest {
                 .judgmentId(1L)
                 .build();
 
-        Application applicationEntity = Application.builder()
-                .applicationId(1L)
-                .build();
-
-        when(applicationRepository.findById(findId)).thenReturn(Optional.ofNullable(applicationEntity));
+        when(applicationIdRegistry.exists(findId)).thenReturn(true);
         when(judgmentRepository.findByApplicationId(findId)).thenReturn(Optional.ofNullable(entity));
 
         JudgmentDTO.Response actual = judgmentService.getJudgmentOfApplication(findId);
@@ -164,5 +162,6 @@ class JudgmentServiceTest {
 
         assertThat(actual.getApplicationId()).isSameAs(findId);
         assertThat(actual.getApprovalAmount()).isSameAs(judgmentEntity.getApprovalAmount());
+        verify(scheduleService).evict(findId);
     }
 }
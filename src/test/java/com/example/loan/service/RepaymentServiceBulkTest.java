@@ -0,0 +1,133 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Money;
+import com.example.loan.dto.EntryDTO;
+import com.example.loan.dto.RepaymentDTO;
+import com.example.loan.dto.ResultObject;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.BalanceLedgerRepository;
+import com.example.loan.repository.BalanceRepository;
+import com.example.loan.repository.EntryRepository;
+import com.example.loan.repository.RepaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RepaymentServiceBulkTest {
+
+    @Autowired
+    private RepaymentService repaymentService;
+
+    @Autowired
+    private EntryService entryService;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private RepaymentRepository repaymentRepository;
+
+    @Autowired
+    private EntryRepository entryRepository;
+
+    @Autowired
+    private BalanceRepository balanceRepository;
+
+    @Autowired
+    private BalanceLedgerRepository balanceLedgerRepository;
+
+    private final List<Long> applicationIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        repaymentRepository.deleteAll();
+        entryRepository.deleteAll();
+        balanceLedgerRepository.deleteAll();
+        balanceRepository.deleteAll();
+        applicationRepository.deleteAllById(applicationIds);
+    }
+
+    @Test
+    void Should_ReturnResultOfEachRow_When_RequestBulkRepaymentsOfCsv() {
+        Long contractedId = contractedApplication("Member Lee");
+        Long appliedId = save(Application.builder()
+                .name("Member Kim")
+                .build());
+
+        entryService.create(contractedId, EntryDTO.Request.builder()
+                .entryAmount(BigDecimal.valueOf(10000))
+                .build());
+
+        String csv = "applicationId,repaymentAmount\n"
+                + contractedId + ",1000\n"
+                + appliedId + ",500\n"
+                + contractedId + ",abc\n"
+                + contractedId + ",2000\n";
+
+        List<RepaymentDTO.BulkResponse> actual = repaymentService.createAll(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), MediaType.valueOf("text/csv"));
+
+        String success = ResultObject.getSuccess().getCode();
+        assertThat(actual).hasSize(4);
+        assertThat(actual.get(0).getResult().getCode()).isEqualTo(success);
+        assertThat(actual.get(0).getRepaymentId()).isNotNull();
+        assertThat(actual.get(1).getResult().getCode()).isNotEqualTo(success);
+        assertThat(actual.get(2).getResult().getCode()).isNotEqualTo(success);
+        assertThat(actual.get(3).getResult().getCode()).isEqualTo(success);
+
+        assertThat(repaymentRepository.findAllByApplicationId(contractedId)).hasSize(2);
+        assertThat(balanceService.get(contractedId).getBalance()).isEqualTo(Money.of(BigDecimal.valueOf(7000)));
+    }
+
+    @Test
+    void Should_FailOnlyMalformedElement_When_RequestBulkRepaymentsOfJson() {
+        Long contractedId = contractedApplication("Member Park");
+
+        entryService.create(contractedId, EntryDTO.Request.builder()
+                .entryAmount(BigDecimal.valueOf(10000))
+                .build());
+
+        String json = "[{\"applicationId\":" + contractedId + ",\"repaymentAmount\":1000},"
+                + "{\"applicationId\":" + contractedId + ",\"repaymentAmount\":\"abc\"},"
+                + "3,"
+                + "{\"applicationId\":" + contractedId + ",\"repaymentAmount\":2000}]";
+
+        List<RepaymentDTO.BulkResponse> actual = repaymentService.createAll(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), MediaType.APPLICATION_JSON);
+
+        String success = ResultObject.getSuccess().getCode();
+        assertThat(actual).extracting(row -> row.getResult().getCode().equals(success))
+                .containsExactly(true, false, false, true);
+        assertThat(balanceService.get(contractedId).getBalance()).isEqualTo(Money.of(BigDecimal.valueOf(7000)));
+    }
+
+    private Long contractedApplication(String name) {
+        return save(Application.builder()
+                .name(name)
+                .contractedAt(LocalDateTime.now())
+                .status(Application.Status.CONTRACTED)
+                .build());
+    }
+
+    private Long save(Application application) {
+        Long applicationId = applicationRepository.save(application).getApplicationId();
+        applicationIds.add(applicationId);
+        return applicationId;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Repayment;
+import com.example.loan.dto.PageDTO;
+import com.example.loan.dto.RepaymentDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.repository.RepaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class RepaymentServiceHistoryTest {
+
+    @Autowired
+    private RepaymentService repaymentService;
+
+    @Autowired
+    private RepaymentRepository repaymentRepository;
+
+    @Test
+    void Should_ReturnAllRepaymentsInDescendingOrder_When_FollowNextCursor() {
+        Long applicationId = 9001L;
+        repaymentRepository.saveAll(LongStream.rangeClosed(1, 5)
+                .mapToObj(i -> Repayment.builder()
+                        .applicationId(applicationId)
+                        .repaymentAmount(BigDecimal.valueOf(i * 100))
+                        .build())
+                .toList());
+
+        List<Long> repaymentIds = new ArrayList<>();
+        Long cursor = null;
+        int pageCount = 0;
+        PageDTO<RepaymentDTO.History> page;
+        do {
+            page = repaymentService.get(applicationId, cursor, 2);
+            page.getContent().forEach(history -> repaymentIds.add(history.getRepaymentId()));
+            cursor = page.getNextCursor();
+            pageCount++;
+        } while (page.getHasNext());
+
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(repaymentIds).hasSize(5).doesNotHaveDuplicates();
+        assertThat(repaymentIds).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void Should_KeepRepayment_When_LedgerAppendFailsOnUpdate() {
+        // 잔고가 없는 신청이라 원장 기록이 실패함
+        Repayment repayment = repaymentRepository.save(Repayment.builder()
+                .applicationId(9002L)
+                .repaymentAmount(BigDecimal.valueOf(1000))
+                .build());
+
+        assertThrows(BaseException.class, () -> repaymentService.update(repayment.getRepaymentId(),
+                RepaymentDTO.Request.builder()
+                        .repaymentAmount(BigDecimal.valueOf(3000))
+                        .build()));
+
+        assertThat(repaymentRepository.findById(repayment.getRepaymentId()).orElseThrow().getRepaymentAmount())
+                .isEqualByComparingTo("1000");
+    }
+}
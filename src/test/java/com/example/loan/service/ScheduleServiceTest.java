@@ -0,0 +1,122 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Application;
+import com.example.loan.dto.ScheduleDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.repository.ApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleServiceTest {
+
+    @InjectMocks
+    private ScheduleServiceImpl scheduleService;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduleService, "cacheSize", 10);
+        scheduleService.initCache();
+    }
+
+    @Test
+    void Should_ReturnAmortizedInstallments_When_RequestScheduleOfContractedApplication(){
+        Application entity = contractedApplication(BigDecimal.valueOf(12000000));
+
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(entity));
+
+        ScheduleDTO.Response actual = scheduleService.get(1L);
+
+        assertThat(actual.getInstallmentCount()).isEqualTo(12);
+        assertThat(actual.getInstallments()).hasSize(12);
+        assertThat(actual.getFeeAmount()).isEqualByComparingTo("120000.00");
+        assertThat(actual.getInstallments().get(0).getInterest()).isEqualByComparingTo("50000.00");
+        assertThat(actual.getInstallments().get(11).getRemainingBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(actual.getInstallments().stream().map(ScheduleDTO.Installment::getPrincipal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)).isEqualByComparingTo("12000000");
+    }
+
+    @Test
+    void Should_ReturnCachedSchedule_When_InputsAreNotChanged(){
+        Application entity = contractedApplication(BigDecimal.valueOf(12000000));
+
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(entity));
+
+        ScheduleDTO.Response first = scheduleService.get(1L);
+        ScheduleDTO.Response second = scheduleService.get(1L);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void Should_RecalculateSchedule_When_ApprovalAmountIsChanged(){
+        Application entity = contractedApplication(BigDecimal.valueOf(12000000));
+
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(entity));
+
+        ScheduleDTO.Response first = scheduleService.get(1L);
+        entity.setApprovalAmount(BigDecimal.valueOf(6000000));
+        ScheduleDTO.Response second = scheduleService.get(1L);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getApprovalAmount()).isEqualByComparingTo("6000000");
+    }
+
+    @Test
+    void Should_EvictAfterCommit_When_EvictInTransaction(){
+        Application entity = contractedApplication(BigDecimal.valueOf(12000000));
+
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(entity));
+
+        ScheduleDTO.Response first = scheduleService.get(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            scheduleService.evict(1L);
+            assertThat(scheduleService.get(1L)).isSameAs(first);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(scheduleService.get(1L)).isNotSameAs(first);
+    }
+
+    @Test
+    void Should_ThrowException_When_RequestScheduleOfNotContractedApplication(){
+        Application entity = contractedApplication(BigDecimal.valueOf(12000000));
+        entity.setContractedAt(null);
+
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(entity));
+
+        assertThrows(BaseException.class, () -> scheduleService.get(1L));
+    }
+
+    private Application contractedApplication(BigDecimal approvalAmount) {
+        LocalDateTime contractedAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+        return Application.builder()
+                .applicationId(1L)
+                .approvalAmount(approvalAmount)
+                .interestRate(BigDecimal.valueOf(0.05))
+                .fee(BigDecimal.valueOf(0.01))
+                .contractedAt(contractedAt)
+                .maturity(contractedAt.plusYears(1))
+                .build();
+    }
+}
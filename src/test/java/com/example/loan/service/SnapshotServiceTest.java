@@ -0,0 +1,92 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.AcceptTerms;
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Judgment;
+import com.example.loan.domain.Terms;
+import com.example.loan.dto.EntryDTO;
+import com.example.loan.dto.RepaymentDTO;
+import com.example.loan.dto.SnapshotDTO;
+import com.example.loan.repository.AcceptTermsRepository;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.JudgmentRepository;
+import com.example.loan.repository.TermsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SnapshotServiceTest {
+
+    @Autowired
+    private SnapshotService snapshotService;
+
+    @Autowired
+    private EntryService entryService;
+
+    @Autowired
+    private RepaymentService repaymentService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JudgmentRepository judgmentRepository;
+
+    @Autowired
+    private TermsRepository termsRepository;
+
+    @Autowired
+    private AcceptTermsRepository acceptTermsRepository;
+
+    @Test
+    void Should_ReturnApplicationWithRelatedInfo_When_RequestSnapshot() {
+        Long applicationId = applicationRepository.save(Application.builder()
+                .name("Member Choi")
+                .approvalAmount(BigDecimal.valueOf(10000))
+                .contractedAt(LocalDateTime.now())
+                .status(Application.Status.CONTRACTED)
+                .build()).getApplicationId();
+        judgmentRepository.save(Judgment.builder()
+                .applicationId(applicationId)
+                .name("Member Choi")
+                .approvalAmount(BigDecimal.valueOf(10000))
+                .build());
+        Long termsId = termsRepository.save(Terms.builder()
+                .name("개인정보 수집 약관")
+                .termsDetailUrl("https://abc-storage.acc/privacy")
+                .build()).getTermsId();
+        acceptTermsRepository.save(AcceptTerms.builder()
+                .applicationId(applicationId)
+                .termsId(termsId)
+                .build());
+
+        entryService.create(applicationId, EntryDTO.Request.builder()
+                .entryAmount(BigDecimal.valueOf(10000))
+                .build());
+        for (int i = 1; i <= 3; i++) {
+            repaymentService.create(applicationId, RepaymentDTO.Request.builder()
+                    .repaymentAmount(BigDecimal.valueOf(i * 1000))
+                    .build());
+        }
+
+        SnapshotDTO.Response actual = snapshotService.get(applicationId, 2);
+
+        assertThat(actual.getApplicationId()).isEqualTo(applicationId);
+        assertThat(actual.getStatus()).isEqualTo(Application.Status.DISBURSED);
+        assertThat(actual.getJudgment().getApprovalAmount()).isEqualByComparingTo("10000");
+        assertThat(actual.getEntry().getEntryAmount()).isEqualByComparingTo("10000");
+        assertThat(actual.getBalance()).isEqualByComparingTo("4000");
+        assertThat(actual.getAcceptTerms()).extracting(SnapshotDTO.AcceptTerms::getName).containsExactly("개인정보 수집 약관");
+        assertThat(actual.getAcceptTerms().get(0).getTermsId()).isEqualTo(termsId);
+        assertThat(actual.getRepayments()).allMatch(repayment -> repayment.getRepaymentId() != null && repayment.getCreatedAt() != null);
+        assertThat(actual.getRepayments()).extracting(SnapshotDTO.Repayment::getRepaymentAmount)
+                .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .containsExactly(BigDecimal.valueOf(3000), BigDecimal.valueOf(2000));
+    }
+}
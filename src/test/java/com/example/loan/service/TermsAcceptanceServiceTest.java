@@ -0,0 +1,123 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.AcceptTerms;
+import com.example.loan.domain.Application;
+import com.example.loan.domain.Terms;
+import com.example.loan.dto.ApplicationDTO;
+import com.example.loan.dto.SnapshotDTO;
+import com.example.loan.repository.AcceptTermsRepository;
+import com.example.loan.repository.ApplicationRepository;
+import com.example.loan.repository.TermsAcceptanceRepository;
+import com.example.loan.repository.TermsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "loan.terms.acceptance-store=bitmap")
+class TermsAcceptanceServiceTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private TermsAcceptanceService termsAcceptanceService;
+
+    @Autowired
+    private SnapshotService snapshotService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TermsRepository termsRepository;
+
+    @Autowired
+    private AcceptTermsRepository acceptTermsRepository;
+
+    @Autowired
+    private TermsAcceptanceRepository termsAcceptanceRepository;
+
+    @Test
+    void Should_StoreBitmap_When_AcceptTermsInBitmapMode() {
+        List<Long> termsIds = allTermsIds();
+        Long applicationId = applicationRepository.save(Application.builder().name("Member Lee").build()).getApplicationId();
+
+        applicationService.acceptTerms(applicationId, ApplicationDTO.AcceptTerms.builder()
+                .acceptTermsIds(termsIds)
+                .build());
+
+        assertThat(acceptTermsRepository.findTermsIdsByApplicationId(applicationId)).isEmpty();
+        assertThat(termsAcceptanceRepository.findByApplicationId(applicationId)).isPresent();
+        assertThat(applicationService.hasAcceptedAllTerms(applicationId)).isTrue();
+
+        // 약관이 추가되면 다시 동의해야 함
+        Long addedTermsId = termsRepository.save(Terms.builder()
+                .name("추가 약관")
+                .termsDetailUrl("https://abc-storage.acc/terms/added")
+                .build()).getTermsId();
+        assertThat(applicationService.hasAcceptedAllTerms(applicationId)).isFalse();
+
+        List<Long> reaccepted = new ArrayList<>(termsIds);
+        reaccepted.add(addedTermsId);
+        applicationService.acceptTerms(applicationId, ApplicationDTO.AcceptTerms.builder()
+                .acceptTermsIds(reaccepted)
+                .build());
+        assertThat(applicationService.hasAcceptedAllTerms(applicationId)).isTrue();
+    }
+
+    @Test
+    void Should_MigrateRowsToBitmap_When_RequestMigration() {
+        List<Long> termsIds = allTermsIds();
+        Long applicationId = applicationRepository.save(Application.builder()
+                .name("Member Kim")
+                .status(Application.Status.TERMS_ACCEPTED)
+                .build()).getApplicationId();
+        acceptTermsRepository.saveAll(termsIds.stream()
+                .map(termsId -> AcceptTerms.builder()
+                        .applicationId(applicationId)
+                        .termsId(termsId)
+                        .build())
+                .toList());
+
+        // 이관 전에는 행 단위 내역으로 확인
+        assertThat(applicationService.hasAcceptedAllTerms(applicationId)).isTrue();
+
+        assertThat(termsAcceptanceService.migrate()).isPositive();
+        assertThat(termsAcceptanceRepository.findByApplicationId(applicationId)).isPresent();
+        assertThat(applicationService.hasAcceptedAllTerms(applicationId)).isTrue();
+
+        // 다시 실행해도 이미 이관된 신청은 건너뜀
+        assertThat(termsAcceptanceService.migrate()).isZero();
+    }
+
+    @Test
+    void Should_ReturnAcceptedTermsInSnapshot_When_AcceptTermsInBitmapMode() {
+        List<Long> termsIds = allTermsIds();
+        Long applicationId = applicationRepository.save(Application.builder().name("Member Cho").build()).getApplicationId();
+
+        applicationService.acceptTerms(applicationId, ApplicationDTO.AcceptTerms.builder()
+                .acceptTermsIds(termsIds)
+                .build());
+
+        SnapshotDTO.Response actual = snapshotService.get(applicationId, 0);
+
+        assertThat(actual.getAcceptTerms()).extracting(SnapshotDTO.AcceptTerms::getTermsId)
+                .containsExactlyElementsOf(termsIds.stream().sorted().toList());
+        assertThat(actual.getAcceptTerms()).allMatch(acceptTerms -> acceptTerms.getName() != null && acceptTerms.getAcceptedAt() != null);
+    }
+
+    private List<Long> allTermsIds() {
+        if (termsRepository.count() == 0) {
+            termsRepository.save(Terms.builder()
+                    .name("대출 이용 약관")
+                    .termsDetailUrl("https://abc-storage.acc/terms/0")
+                    .build());
+        }
+        return termsRepository.findAll().stream().map(Terms::getTermsId).toList();
+    }
+}
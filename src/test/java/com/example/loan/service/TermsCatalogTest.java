@@ -0,0 +1,90 @@
+package com.example.loan.service;
+
+import com.example.loan.domain.Terms;
+import com.example.loan.repository.TermsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TermsCatalogTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @InjectMocks
+    private TermsCatalog termsCatalog;
+
+    @Mock
+    private TermsRepository termsRepository;
+
+    @Test
+    void Should_KeepSnapshot_When_RevisionIsNotChanged() {
+        Terms entityA = terms(1L);
+        when(termsRepository.findAll(any(Sort.class))).thenReturn(List.of(entityA));
+        when(termsRepository.findRevision()).thenReturn(revision(1L, 1L));
+
+        TermsCatalog.Snapshot first = termsCatalog.current();
+        TermsCatalog.Snapshot second = termsCatalog.current();
+
+        assertThat(second).isSameAs(first);
+        verify(termsRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void Should_ReloadSnapshot_When_TermsAddedByAnotherInstance() {
+        Terms entityA = terms(1L);
+        Terms entityB = terms(2L);
+        when(termsRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(entityA))
+                .thenReturn(List.of(entityA, entityB));
+        // 무효화 없이 DB 의 약관 구성만 바뀜
+        when(termsRepository.findRevision()).thenReturn(revision(2L, 2L));
+
+        TermsCatalog.Snapshot first = termsCatalog.current();
+        TermsCatalog.Snapshot second = termsCatalog.current();
+
+        assertThat(first.size()).isEqualTo(1);
+        assertThat(second.size()).isEqualTo(2);
+        assertThat(second.version()).isGreaterThan(first.version());
+    }
+
+    private Terms terms(Long termsId) {
+        Terms terms = Terms.builder()
+                .termsId(termsId)
+                .name("대출 이용 약관 " + termsId)
+                .build();
+        terms.setUpdatedAt(UPDATED_AT);
+        return terms;
+    }
+
+    private TermsRepository.Revision revision(Long termsCount, Long maxTermsId) {
+        return new TermsRepository.Revision() {
+            @Override
+            public Long getTermsCount() {
+                return termsCount;
+            }
+
+            @Override
+            public Long getMaxTermsId() {
+                return maxTermsId;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdatedAt() {
+                return UPDATED_AT;
+            }
+        };
+    }
+}
@@ -9,14 +9,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.modelmapper.ModelMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +31,12 @@ class TermsServiceTest {
     @Mock
     private TermsRepository termsRepository;
 
+    @Mock
+    private TermsCatalog termsCatalog;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @Spy
     private ModelMapper modelMapper;
 
@@ -49,6 +58,7 @@ class TermsServiceTest {
 
         assertThat(actual.getName()).isSameAs(entity.getName());
         assertThat(actual.getTermsDetailUrl()).isSameAs(entity.getTermsDetailUrl());
+        verify(termsCatalog).invalidate();
     }
 
     @Test
@@ -71,4 +81,34 @@ class TermsServiceTest {
 
         assertThat(actual.size()).isSameAs(list.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void Should_ReuseSerializedSnapshot_When_CatalogVersionIsNotChanged() {
+        Terms entityA = Terms.builder()
+                .termsId(1L)
+                .name("대출 이용 약관 1")
+                .termsDetailUrl("https://abc-storage.acc/dslfjdlsfjlsdddads")
+                .build();
+
+        Terms entityB = Terms.builder()
+                .termsId(2L)
+                .name("대출 이용 약관 2")
+                .termsDetailUrl("https://abc-storage.acc/dslfjdlsfjlsdweqwq")
+                .build();
+
+        when(termsCatalog.current()).thenReturn(
+                TermsCatalog.Snapshot.of(1L, List.of(entityA)),
+                TermsCatalog.Snapshot.of(1L, List.of(entityA)),
+                TermsCatalog.Snapshot.of(2L, List.of(entityA, entityB)));
+
+        TermsDTO.Snapshot first = termsService.getSnapshot();
+        TermsDTO.Snapshot second = termsService.getSnapshot();
+        TermsDTO.Snapshot changed = termsService.getSnapshot();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getEtag()).startsWith("\"").endsWith("\"");
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).contains("대출 이용 약관 1");
+        assertThat(changed.getVersion()).isEqualTo(2L);
+        assertThat(changed.getEtag()).isNotEqualTo(first.getEtag());
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.loan.service;
+
+import com.example.loan.dto.CounselDTO;
+import com.example.loan.exception.BaseException;
+import com.example.loan.repository.CounselRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {"loan.counsel.intake.mode=wal", "loan.counsel.intake.flush-delay=3600000"})
+class WalCounselIntakeTest {
+
+    private static final int HEADER_SIZE = 8;
+
+    @TempDir
+    static Path walDir;
+
+    @DynamicPropertySource
+    static void walDir(DynamicPropertyRegistry registry) {
+        registry.add("loan.counsel.intake.wal-dir", walDir::toString);
+    }
+
+    @Autowired
+    private CounselService counselService;
+
+    @Autowired
+    private WalCounselIntake walCounselIntake;
+
+    @Autowired
+    private CounselRepository counselRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void Should_SaveLoggedCounsels_When_Flush() throws IOException {
+        CounselDTO.Response first = counselService.create(request("Member Lee"));
+        CounselDTO.Response second = counselService.create(request("Member Kim"));
+
+        assertThat(first.getCounselId()).isNull();
+        assertThat(first.getIntakeId()).isNotNull();
+
+        walCounselIntake.flush();
+
+        assertThat(counselRepository.findIntakeIdsIn(List.of(first.getIntakeId(), second.getIntakeId())))
+                .containsExactlyInAnyOrder(first.getIntakeId(), second.getIntakeId());
+        assertThat(segments()).hasSize(1);
+    }
+
+    @Test
+    void Should_ReplayEachCounselOnce_When_SegmentLeftByCrashedFlush() throws IOException {
+        CounselDTO.Response first = counselService.create(request("Member Park"));
+        CounselDTO.Response second = counselService.create(request("Member Choi"));
+
+        // 반영 도중 멈춘 이전 segment 흉내: 같은 레코드 + 끝이 잘린 레코드
+        Path active = segments().get(segments().size() - 1);
+        Path crashed = walDir.resolve("counsel-00000000000000000000.wal");
+        Files.copy(active, crashed);
+        Files.write(crashed, new byte[]{0, 0, 0, 100, 1, 2}, StandardOpenOption.APPEND);
+
+        walCounselIntake.flush();
+
+        assertThat(counselRepository.findIntakeIdsIn(List.of(first.getIntakeId(), second.getIntakeId())))
+                .containsExactlyInAnyOrder(first.getIntakeId(), second.getIntakeId());
+        assertThat(segments()).doesNotContain(crashed);
+    }
+
+    @Test
+    void Should_RejectBeforeLogging_When_FieldExceedsColumnLength() throws IOException {
+        List<Path> before = segments();
+        long size = Files.size(before.get(before.size() - 1));
+
+        assertThrows(BaseException.class, () -> counselService.create(request("Member Name Too Long")));
+
+        assertThat(segments()).isEqualTo(before);
+        assertThat(Files.size(before.get(before.size() - 1))).isEqualTo(size);
+    }
+
+    @Test
+    void Should_DeadLetterOnlyRejectedRow_When_FlushBatchContainsInvalidRow() throws IOException {
+        // 검증 이전 버전이 남긴 segment 흉내: 정상 접수 + 컬럼 길이를 넘는 접수
+        CounselDTO.Intake valid = intake("Member Han");
+        CounselDTO.Intake invalid = intake("Member Name Too Long");
+        Path segment = walDir.resolve("counsel-00000000000000000000.wal");
+        Files.write(segment, concat(record(valid), record(invalid)));
+
+        walCounselIntake.flush();
+
+        assertThat(counselRepository.findIntakeIdsIn(List.of(valid.getIntakeId(), invalid.getIntakeId())))
+                .containsExactly(valid.getIntakeId());
+        assertThat(Files.readString(walDir.resolve("counsel-dead-letter.jsonl"))).contains(invalid.getIntakeId());
+        assertThat(Files.exists(segment)).isFalse();
+    }
+
+    @Test
+    void Should_QuarantineSegment_When_RecordChecksumMismatch() throws IOException {
+        CounselDTO.Intake first = intake("Member Seo");
+        byte[] broken = record(intake("Member Yoo"));
+        broken[HEADER_SIZE] ^= 1;
+        Path segment = walDir.resolve("counsel-00000000000000000000.wal");
+        Files.write(segment, concat(record(first), broken));
+
+        walCounselIntake.flush();
+
+        assertThat(counselRepository.findIntakeIdsIn(List.of(first.getIntakeId()))).containsExactly(first.getIntakeId());
+        assertThat(Files.exists(segment)).isFalse();
+        assertThat(Files.exists(walDir.resolve("counsel-00000000000000000000.wal.corrupt"))).isTrue();
+    }
+
+    private CounselDTO.Intake intake(String name) {
+        return CounselDTO.Intake.builder()
+                .intakeId(UUID.randomUUID().toString())
+                .appliedAt(LocalDateTime.now())
+                .name(name)
+                .memo("강남 아파트 담보 대출 문의")
+                .build();
+    }
+
+    // 길이(int) + CRC32(int) + JSON
+    private byte[] record(CounselDTO.Intake intake) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(intake);
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return ByteBuffer.allocate(HEADER_SIZE + json.length)
+                .putInt(json.length)
+                .putInt((int) crc.getValue())
+                .put(json)
+                .array();
+    }
+
+    private byte[] concat(byte[] a, byte[] b) {
+        return ByteBuffer.allocate(a.length + b.length).put(a).put(b).array();
+    }
+
+    private CounselDTO.Request request(String name) {
+        return CounselDTO.Request.builder()
+                .name(name)
+                .cellPhone("010-1111-2222")
+                .memo("강남 아파트 담보 대출 문의")
+                .build();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(walDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".wal")).sorted().toList();
+        }
+    }
+}